@@ -0,0 +1,163 @@
+package com.restfulbooker.perf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restfulbooker.models.AuthRequest;
+import com.restfulbooker.models.AuthResponse;
+import com.restfulbooker.models.Booking;
+import com.restfulbooker.models.BookingDates;
+import com.restfulbooker.models.BookingResponse;
+import com.restfulbooker.utils.RestAssuredHelper;
+import com.restfulbooker.utils.TestDataGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson round-trip benchmarks for the API models, using the mapper configured in
+ * {@link RestAssuredHelper} so the numbers match what the tests pay per request.
+ *
+ * <pre>
+ * mvn -Pjmh verify
+ * mvn -Pjmh verify -Djmh.args="ModelSerializationBenchmark.*Booking -prof gc"
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelSerializationBenchmark {
+
+    /**
+     * Booking payloads: random data, the 500-character extreme values, the special
+     * character set and the CJK/umlaut/emoji set from the Unicode test
+     */
+    @State(Scope.Benchmark)
+    public static class BookingPayload {
+
+        @Param({"random", "extreme", "special", "unicode"})
+        public String payload;
+
+        ObjectMapper mapper;
+        Booking booking;
+        BookingResponse bookingResponse;
+        byte[] bookingJson;
+        byte[] bookingResponseJson;
+
+        @Setup
+        public void setUp() throws IOException {
+            mapper = RestAssuredHelper.getObjectMapper();
+            booking = createBooking(payload);
+            bookingResponse = new BookingResponse(12345, booking);
+            bookingJson = mapper.writeValueAsBytes(booking);
+            bookingResponseJson = mapper.writeValueAsBytes(bookingResponse);
+        }
+
+        private static Booking createBooking(String payload) {
+            switch (payload) {
+                case "random":
+                    return TestDataGenerator.generateRandomBooking();
+                case "extreme":
+                    return TestDataGenerator.generateBookingWithExtremeValues();
+                case "special":
+                    return TestDataGenerator.generateBookingWithSpecialCharacters();
+                case "unicode":
+                    Booking booking = TestDataGenerator.generateRandomBooking();
+                    booking.setFirstName("张三");
+                    booking.setLastName("Müller");
+                    booking.setAdditionalNeeds("需要早餐 🍳");
+                    return booking;
+                default:
+                    throw new IllegalArgumentException("Unknown payload: " + payload);
+            }
+        }
+    }
+
+    /**
+     * Small fixed-shape models
+     */
+    @State(Scope.Benchmark)
+    public static class SmallModels {
+
+        ObjectMapper mapper;
+        BookingDates bookingDates;
+        AuthRequest authRequest;
+        AuthResponse authResponse;
+        byte[] bookingDatesJson;
+        byte[] authRequestJson;
+        byte[] authResponseJson;
+
+        @Setup
+        public void setUp() throws IOException {
+            mapper = RestAssuredHelper.getObjectMapper();
+            bookingDates = new BookingDates(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 5));
+            authRequest = TestDataGenerator.generateValidAuthRequest();
+            authResponse = new AuthResponse("abc123def456ghi");
+            bookingDatesJson = mapper.writeValueAsBytes(bookingDates);
+            authRequestJson = mapper.writeValueAsBytes(authRequest);
+            authResponseJson = mapper.writeValueAsBytes(authResponse);
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeBooking(BookingPayload state) throws IOException {
+        return state.mapper.writeValueAsBytes(state.booking);
+    }
+
+    @Benchmark
+    public Booking deserializeBooking(BookingPayload state) throws IOException {
+        return state.mapper.readValue(state.bookingJson, Booking.class);
+    }
+
+    @Benchmark
+    public byte[] serializeBookingResponse(BookingPayload state) throws IOException {
+        return state.mapper.writeValueAsBytes(state.bookingResponse);
+    }
+
+    @Benchmark
+    public BookingResponse deserializeBookingResponse(BookingPayload state) throws IOException {
+        return state.mapper.readValue(state.bookingResponseJson, BookingResponse.class);
+    }
+
+    @Benchmark
+    public byte[] serializeBookingDates(SmallModels state) throws IOException {
+        return state.mapper.writeValueAsBytes(state.bookingDates);
+    }
+
+    @Benchmark
+    public BookingDates deserializeBookingDates(SmallModels state) throws IOException {
+        return state.mapper.readValue(state.bookingDatesJson, BookingDates.class);
+    }
+
+    @Benchmark
+    public byte[] serializeAuthRequest(SmallModels state) throws IOException {
+        return state.mapper.writeValueAsBytes(state.authRequest);
+    }
+
+    @Benchmark
+    public AuthRequest deserializeAuthRequest(SmallModels state) throws IOException {
+        return state.mapper.readValue(state.authRequestJson, AuthRequest.class);
+    }
+
+    @Benchmark
+    public byte[] serializeAuthResponse(SmallModels state) throws IOException {
+        return state.mapper.writeValueAsBytes(state.authResponse);
+    }
+
+    @Benchmark
+    public AuthResponse deserializeAuthResponse(SmallModels state) throws IOException {
+        return state.mapper.readValue(state.authResponseJson, AuthResponse.class);
+    }
+}
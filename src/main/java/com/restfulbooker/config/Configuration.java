@@ -66,8 +66,195 @@ public class Configuration {
         return Integer.parseInt(getProperty("socket.timeout", "90000"));
     }
     
+    public String getTestParallelMode() {
+        return getProperty("test.parallel", "methods");
+    }
+    
+    public int getTestThreads() {
+        return Integer.parseInt(getProperty("test.threads", "8"));
+    }
+    
+    public String getTestHistoryPath() {
+        return getProperty("test.history", "target/.test-history");
+    }
+    
     public boolean isLoggingEnabled() {
         return Boolean.parseBoolean(getProperty("logging.enabled", "true"));
     }
+    
+    public int getLoggingBufferSize() {
+        return Integer.parseInt(getProperty("logging.buffer.size", "50"));
+    }
+    
+    public long getSlowExchangeThreshold() {
+        return Long.parseLong(getProperty("logging.slow.threshold", "2000"));
+    }
+    
+    public String getAllureAttachmentMode() {
+        return getProperty("allure.attachments", "failure");
+    }
+    
+    public int getAllureAttachmentSampleRate() {
+        return Integer.parseInt(getProperty("allure.attachments.sample.rate", "10"));
+    }
+    
+    public int getAllureAttachmentMaxBody() {
+        return Integer.parseInt(getProperty("allure.attachments.max.body", "8192"));
+    }
+    
+    public boolean isAllureAttachmentGzipEnabled() {
+        return Boolean.parseBoolean(getProperty("allure.attachments.gzip", "true"));
+    }
+    
+    public String getAuthUsername() {
+        return getProperty("auth.username", "admin");
+    }
+    
+    public String getAuthPassword() {
+        return getProperty("auth.password", "password123");
+    }
+    
+    public long getAuthTokenTtl() {
+        return Long.parseLong(getProperty("auth.token.ttl", "600000"));
+    }
+    
+    public int getMaxTotalConnections() {
+        return Integer.parseInt(getProperty("http.pool.max.total", "50"));
+    }
+    
+    public int getMaxConnectionsPerRoute() {
+        return Integer.parseInt(getProperty("http.pool.max.per.route", "20"));
+    }
+    
+    public long getIdleConnectionTimeout() {
+        return Long.parseLong(getProperty("http.pool.idle.timeout", "30000"));
+    }
+    
+    public long getKeepAliveDuration() {
+        return Long.parseLong(getProperty("http.keepalive.duration", "60000"));
+    }
+    
+    public String getExecutionMode() {
+        return getProperty("execution.mode", "platform");
+    }
+    
+    public int getPlatformThreadCount() {
+        return Integer.parseInt(getProperty("execution.platform.threads", "16"));
+    }
+    
+    public int getFixturePoolSize() {
+        return Integer.parseInt(getProperty("fixtures.pool.size", "16"));
+    }
+    
+    public boolean isCleanupEnabled() {
+        return Boolean.parseBoolean(getProperty("cleanup.enabled", "true"));
+    }
+    
+    public int getCleanupConcurrency() {
+        return Integer.parseInt(getProperty("cleanup.concurrency", "8"));
+    }
+    
+    public int getRetryCount() {
+        return Integer.parseInt(getProperty("retry.count", "3"));
+    }
+    
+    public long getRetryBackoffBase() {
+        return Long.parseLong(getProperty("retry.backoff.base", "200"));
+    }
+    
+    public long getRetryBackoffMax() {
+        return Long.parseLong(getProperty("retry.backoff.max", "5000"));
+    }
+    
+    public double getRetryBudgetRatio() {
+        return Double.parseDouble(getProperty("retry.budget.ratio", "0.1"));
+    }
+    
+    public int getRetryBudgetMinimum() {
+        return Integer.parseInt(getProperty("retry.budget.min", "10"));
+    }
+    
+    public boolean isLimiterEnabled() {
+        return Boolean.parseBoolean(getProperty("limiter.enabled", "true"));
+    }
+    
+    public int getLimiterInitialConcurrency() {
+        return Integer.parseInt(getProperty("limiter.concurrency.initial", "20"));
+    }
+    
+    public int getLimiterMinConcurrency() {
+        return Integer.parseInt(getProperty("limiter.concurrency.min", "1"));
+    }
+    
+    public int getLimiterMaxConcurrency() {
+        return Integer.parseInt(getProperty("limiter.concurrency.max", "200"));
+    }
+    
+    public double getLimiterBackoffRatio() {
+        return Double.parseDouble(getProperty("limiter.backoff.ratio", "0.5"));
+    }
+    
+    public double getLimiterLatencyTolerance() {
+        return Double.parseDouble(getProperty("limiter.latency.tolerance", "2.0"));
+    }
+    
+    public double getLimiterEndpointRate() {
+        return Double.parseDouble(getProperty("limiter.endpoint.rate", "0"));
+    }
+    
+    public int getLimiterEndpointBurst() {
+        return Integer.parseInt(getProperty("limiter.endpoint.burst", "20"));
+    }
+    
+    public long getHealthCheckFreshness() {
+        return Long.parseLong(getProperty("health.check.freshness", "60000"));
+    }
+    
+    public int getCircuitBreakerFailureThreshold() {
+        return Integer.parseInt(getProperty("circuit.breaker.failure.threshold", "3"));
+    }
+    
+    public long getCircuitBreakerOpenDuration() {
+        return Long.parseLong(getProperty("circuit.breaker.open.duration", "30000"));
+    }
+    
+    public double getLoadTestArrivalRate() {
+        return Double.parseDouble(getProperty("loadtest.rate", "5"));
+    }
+    
+    public long getLoadTestDuration() {
+        return Long.parseLong(getProperty("loadtest.duration", "60"));
+    }
+    
+    public String getLatencyReportPath() {
+        return getProperty("perf.latency.report", "target/perf/latency.json");
+    }
+    
+    public String getResourceReportPath() {
+        return getProperty("perf.resources.report", "target/perf/test-resources.csv");
+    }
+    
+    public long getSamplingInterval() {
+        return Long.parseLong(getProperty("perf.sampling.interval", "0"));
+    }
+    
+    public boolean isJournalEnabled() {
+        return Boolean.parseBoolean(getProperty("perf.journal.enabled", "false"));
+    }
+    
+    public String getJournalPath() {
+        return getProperty("perf.journal.path", "target/perf/requests.journal");
+    }
+    
+    public long getJournalCapacity() {
+        return Long.parseLong(getProperty("perf.journal.capacity", "2000000"));
+    }
+    
+    public boolean isJfrEnabled() {
+        return Boolean.parseBoolean(getProperty("jfr.enabled", "false"));
+    }
+    
+    public String getJfrOutputPath() {
+        return getProperty("jfr.output", "target/perf/suite.jfr");
+    }
 }
-
@@ -0,0 +1,39 @@
+package com.restfulbooker.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one request/response exchange; the event duration is the latency
+ * including reading the response body
+ */
+@Name("com.restfulbooker.HttpExchange")
+@Label("HTTP Exchange")
+@Category({"Restful Booker", "HTTP"})
+@Description("Request sent through RestAssuredHelper")
+@StackTrace(false)
+public class HttpExchangeEvent extends Event {
+
+    @Label("Method")
+    public String method;
+
+    @Label("Endpoint")
+    @Description("Endpoint template, e.g. /booking/{id}")
+    public String endpoint;
+
+    @Label("Status")
+    public int status;
+
+    @Label("Request Bytes")
+    @DataAmount
+    public long requestBytes;
+
+    @Label("Response Bytes")
+    @DataAmount
+    public long responseBytes;
+}
@@ -0,0 +1,58 @@
+package com.restfulbooker.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+
+/**
+ * Flight recording around a test suite using the JDK "default" settings (low overhead,
+ * GC pauses, lock contention) plus the Restful Booker events
+ */
+public class SuiteRecording implements AutoCloseable {
+
+    private final Recording recording;
+    private final Path destination;
+
+    private SuiteRecording(Recording recording, Path destination) {
+        this.recording = recording;
+        this.destination = destination;
+    }
+
+    public static SuiteRecording start(Path destination) {
+        try {
+            if (destination.getParent() != null) {
+                Files.createDirectories(destination.getParent());
+            }
+            Recording recording = new Recording(Configuration.getConfiguration("default"));
+            recording.setName("restful-booker-suite");
+            recording.enable(HttpExchangeEvent.class).withoutThreshold();
+            recording.enable(TestPhaseEvent.class).withoutThreshold();
+            recording.enable(TestMethodEvent.class).withoutThreshold();
+            recording.setDestination(destination);
+            recording.start();
+            return new SuiteRecording(recording, destination);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start flight recording to " + destination, e);
+        } catch (ParseException e) {
+            throw new IllegalStateException("Invalid JFR settings", e);
+        }
+    }
+
+    public Path getDestination() {
+        return destination;
+    }
+
+    /**
+     * Stop the recording and write it to the destination file
+     */
+    @Override
+    public void close() {
+        recording.stop();
+        recording.close();
+    }
+}
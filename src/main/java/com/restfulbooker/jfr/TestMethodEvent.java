@@ -0,0 +1,29 @@
+package com.restfulbooker.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one TestNG test or configuration method invocation
+ */
+@Name("com.restfulbooker.TestMethod")
+@Label("Test Method")
+@Category({"Restful Booker", "Tests"})
+@StackTrace(false)
+public class TestMethodEvent extends Event {
+
+    @Label("Test Class")
+    public String testClass;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Configuration Method")
+    public boolean configuration;
+
+    @Label("Status")
+    public String status;
+}
@@ -0,0 +1,41 @@
+package com.restfulbooker.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for a test setup phase such as the health check or authentication
+ */
+@Name("com.restfulbooker.TestPhase")
+@Label("Test Phase")
+@Category({"Restful Booker", "Tests"})
+@StackTrace(false)
+public class TestPhaseEvent extends Event {
+
+    @Label("Phase")
+    public String phase;
+
+    @Label("Test Class")
+    public String testClass;
+
+    /**
+     * Run {@code action} inside a committed phase event
+     */
+    public static void record(String phase, Class<?> testClass, Runnable action) {
+        TestPhaseEvent event = new TestPhaseEvent();
+        event.begin();
+        try {
+            action.run();
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.phase = phase;
+                event.testClass = testClass.getName();
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.restfulbooker.perf;
+
+import com.restfulbooker.config.Configuration;
+import com.restfulbooker.utils.RequestJournal;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Command-line summary of a {@link RequestJournal}: per-endpoint counts, error rates,
+ * latency percentiles and payload sizes, plus status codes and overall throughput.
+ *
+ * <pre>
+ * mvn -Pjournal compile exec:java -Djournal.file=target/perf/requests.journal
+ * </pre>
+ */
+public class JournalReader {
+
+    // Track latencies up to one hour in microseconds with 3 significant digits
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Map<String, EndpointSummary> endpoints = new TreeMap<>();
+    private final Map<Integer, Long> statuses = new TreeMap<>();
+    private final Set<Long> threads = new HashSet<>();
+    private long records;
+    private long firstEpochMillis = Long.MAX_VALUE;
+    private long lastEpochMillis = Long.MIN_VALUE;
+
+    public static void main(String[] args) {
+        Path file = Paths.get(args.length > 0 ? args[0] : Configuration.getInstance().getJournalPath());
+        JournalReader reader = new JournalReader();
+        reader.read(file);
+        System.out.printf("Journal %s%n", file);
+        reader.printReport();
+    }
+
+    /**
+     * Aggregate every complete record of the journal file
+     */
+    public void read(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.limit() < RequestJournal.HEADER_SIZE || buffer.getInt(0) != RequestJournal.MAGIC) {
+                throw new IllegalArgumentException(file + " is not a request journal");
+            }
+            if (buffer.getInt(4) != RequestJournal.VERSION || buffer.getInt(8) != RequestJournal.RECORD_SIZE) {
+                throw new IllegalArgumentException("Unsupported journal version " + buffer.getInt(4));
+            }
+
+            long slots = (buffer.limit() - RequestJournal.HEADER_SIZE) / RequestJournal.RECORD_SIZE;
+            long count = buffer.getLong(RequestJournal.HEADER_COUNT_OFFSET);
+            // A journal that was not closed has no count; scan all slots and skip empty ones
+            long limit = count > 0 ? Math.min(count, slots) : slots;
+            for (long slot = 0; slot < limit; slot++) {
+                readRecord(buffer, (int) (RequestJournal.HEADER_SIZE + slot * RequestJournal.RECORD_SIZE));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read request journal " + file, e);
+        }
+    }
+
+    private void readRecord(ByteBuffer buffer, int offset) {
+        long epochMillis = buffer.getLong(offset + RequestJournal.EPOCH_MILLIS_OFFSET);
+        if (epochMillis == 0) {
+            return;
+        }
+        int status = buffer.getShort(offset + RequestJournal.STATUS_OFFSET);
+        String endpoint = name(RequestJournal.METHODS, buffer.get(offset + RequestJournal.METHOD_OFFSET))
+                + " " + name(RequestJournal.ENDPOINTS, buffer.get(offset + RequestJournal.ENDPOINT_OFFSET));
+
+        records++;
+        firstEpochMillis = Math.min(firstEpochMillis, epochMillis);
+        lastEpochMillis = Math.max(lastEpochMillis, epochMillis);
+        threads.add(buffer.getLong(offset + RequestJournal.THREAD_OFFSET));
+        statuses.merge(status, 1L, Long::sum);
+        endpoints.computeIfAbsent(endpoint, key -> new EndpointSummary()).record(
+                status,
+                buffer.getLong(offset + RequestJournal.LATENCY_OFFSET),
+                buffer.getInt(offset + RequestJournal.REQUEST_BYTES_OFFSET),
+                buffer.getInt(offset + RequestJournal.RESPONSE_BYTES_OFFSET));
+    }
+
+    /**
+     * Print the per-endpoint table followed by status counts and throughput
+     */
+    public void printReport() {
+        if (records == 0) {
+            System.out.println("No records");
+            return;
+        }
+        System.out.printf("%n%-26s %9s %8s %7s %9s %9s %9s %9s %9s %10s %10s%n",
+                "Endpoint", "count", "errors", "err%", "p50", "p90", "p99", "p99.9", "max", "avg req B", "avg resp B");
+        endpoints.forEach((name, summary) -> {
+            Histogram histogram = summary.histogram;
+            long total = histogram.getTotalCount();
+            System.out.printf("%-26s %9d %8d %6.2f%% %9.1f %9.1f %9.1f %9.1f %9.1f %10.0f %10.0f%n",
+                    name, total, summary.errors, 100.0 * summary.errors / total,
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()),
+                    (double) summary.requestBytes / total,
+                    (double) summary.responseBytes / total);
+        });
+
+        System.out.printf("%nStatus codes: %s%n", statuses);
+        double seconds = Math.max(lastEpochMillis - firstEpochMillis, 1) / 1000.0;
+        System.out.printf("%d requests from %d threads over %.1f s (%.1f req/s)%n",
+                records, threads.size(), seconds, records / seconds);
+    }
+
+    public long getRecords() {
+        return records;
+    }
+
+    public Map<String, EndpointSummary> getEndpoints() {
+        return endpoints;
+    }
+
+    private static String name(String[] names, int index) {
+        return index > 0 && index < names.length ? names[index] : names[0];
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    /**
+     * Latency, error and payload totals for one {@code METHOD endpoint}
+     */
+    public static class EndpointSummary {
+        private final Histogram histogram = new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        private long errors;
+        private long requestBytes;
+        private long responseBytes;
+
+        void record(int status, long latencyNanos, int requestBytes, int responseBytes) {
+            histogram.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS));
+            if (status == 0 || status >= 400) {
+                errors++;
+            }
+            this.requestBytes += requestBytes;
+            this.responseBytes += responseBytes;
+        }
+
+        public Histogram getHistogram() {
+            return histogram;
+        }
+
+        public long getErrors() {
+            return errors;
+        }
+    }
+}
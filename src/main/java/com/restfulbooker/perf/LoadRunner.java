@@ -0,0 +1,195 @@
+package com.restfulbooker.perf;
+
+import com.restfulbooker.config.Configuration;
+import com.restfulbooker.models.AuthRequest;
+import com.restfulbooker.models.Booking;
+import com.restfulbooker.utils.ApiEndpoints;
+import com.restfulbooker.utils.BookingApiClient;
+import com.restfulbooker.utils.TestDataGenerator;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Open-model load generator replaying the booking workflow
+ * (create, get, put, patch, delete) at a fixed arrival rate.
+ * <p>
+ * Workflows start on a fixed schedule regardless of how many are still in flight, so a
+ * slow API cannot throttle the load. Latency is measured from the time each request was
+ * <em>intended</em> to be sent, which corrects for coordinated omission when the
+ * generator itself falls behind.
+ *
+ * <pre>
+ * mvn -Ploadtest verify -Dloadtest.rate=20 -Dloadtest.duration=120
+ * </pre>
+ */
+public class LoadRunner {
+
+    private static final String WORKFLOW = "workflow";
+    private static final String CREATE = "POST " + ApiEndpoints.BOOKING;
+    private static final String GET = "GET " + ApiEndpoints.BOOKING_BY_ID;
+    private static final String PUT = "PUT " + ApiEndpoints.BOOKING_BY_ID;
+    private static final String PATCH = "PATCH " + ApiEndpoints.BOOKING_BY_ID;
+    private static final String DELETE = "DELETE " + ApiEndpoints.BOOKING_BY_ID;
+
+    // Track latencies up to one hour in microseconds with 3 significant digits
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final BookingApiClient client;
+    private final double arrivalsPerSecond;
+    private final long durationSeconds;
+    private final Map<String, EndpointStats> stats = new LinkedHashMap<>();
+    private final AtomicLong inFlight = new AtomicLong();
+
+    private String token;
+
+    public LoadRunner(BookingApiClient client, double arrivalsPerSecond, long durationSeconds) {
+        if (arrivalsPerSecond <= 0 || durationSeconds <= 0) {
+            throw new IllegalArgumentException("Arrival rate and duration must be positive");
+        }
+        this.client = client;
+        this.arrivalsPerSecond = arrivalsPerSecond;
+        this.durationSeconds = durationSeconds;
+        for (String name : new String[] {WORKFLOW, CREATE, GET, PUT, PATCH, DELETE}) {
+            stats.put(name, new EndpointStats());
+        }
+    }
+
+    public static void main(String[] args) {
+        Configuration config = Configuration.getInstance();
+        LoadRunner runner = new LoadRunner(new BookingApiClient(config),
+                config.getLoadTestArrivalRate(), config.getLoadTestDuration());
+
+        System.out.printf("Running booking workflow at %.1f/s for %d s against %s%n",
+                config.getLoadTestArrivalRate(), config.getLoadTestDuration(), config.getBaseUrl());
+        runner.run(config.getAuthUsername(), config.getAuthPassword());
+        runner.printReport();
+    }
+
+    /**
+     * Authenticate, then start workflows on schedule until the duration elapses and
+     * wait for the stragglers to finish
+     */
+    public void run(String username, String password) {
+        token = client.auth(new AuthRequest(username, password)).join().getToken();
+
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / arrivalsPerSecond);
+        long arrivals = (long) (arrivalsPerSecond * durationSeconds);
+        long startNanos = System.nanoTime();
+
+        for (long i = 0; i < arrivals; i++) {
+            long intendedStart = startNanos + i * intervalNanos;
+            long wait;
+            while ((wait = intendedStart - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            inFlight.incrementAndGet();
+            runWorkflow(intendedStart).whenComplete((ignored, failure) -> inFlight.decrementAndGet());
+        }
+
+        long drainDeadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(1);
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(50));
+        }
+    }
+
+    private CompletableFuture<Void> runWorkflow(long intendedStart) {
+        // Generate all data up front on the scheduling thread
+        Booking booking = TestDataGenerator.generateRandomBooking();
+        Booking update = TestDataGenerator.generateRandomBooking();
+        Booking patch = new Booking();
+        patch.setFirstName(TestDataGenerator.generateRandomBooking().getFirstName());
+
+        CompletableFuture<Void> workflow = timed(CREATE, intendedStart, () -> client.createBooking(booking))
+                .thenCompose(created -> {
+                    int bookingId = created.getBookingId();
+                    return timed(GET, System.nanoTime(), () -> client.getBooking(bookingId))
+                            .thenCompose(ignored -> timed(PUT, System.nanoTime(),
+                                    () -> client.updateBooking(bookingId, update, token)))
+                            .thenCompose(ignored -> timed(PATCH, System.nanoTime(),
+                                    () -> client.patchBooking(bookingId, patch, token)))
+                            .thenCompose(ignored -> timed(DELETE, System.nanoTime(),
+                                    () -> client.deleteBooking(bookingId, token)));
+                });
+
+        return workflow.handle((ignored, failure) -> {
+            stats.get(WORKFLOW).record(intendedStart, failure);
+            return null;
+        });
+    }
+
+    private <T> CompletableFuture<T> timed(String endpoint, long intendedStart, Supplier<CompletableFuture<T>> call) {
+        CompletableFuture<T> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        return future.whenComplete((ignored, failure) -> stats.get(endpoint).record(intendedStart, failure));
+    }
+
+    /**
+     * Print count, error rate and latency percentiles in milliseconds per endpoint
+     */
+    public void printReport() {
+        System.out.printf("%n%-26s %8s %8s %7s %9s %9s %9s %9s %9s%n",
+                "Endpoint", "count", "errors", "err%", "p50", "p90", "p99", "p99.9", "max");
+        stats.forEach((name, endpointStats) -> {
+            Histogram histogram = endpointStats.histogram;
+            long errors = endpointStats.errors.get();
+            long total = histogram.getTotalCount() + errors;
+            System.out.printf("%-26s %8d %8d %6.2f%% %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    name, total, errors, total == 0 ? 0.0 : 100.0 * errors / total,
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()));
+        });
+        if (inFlight.get() > 0) {
+            System.out.printf("%d workflows still in flight after the drain timeout%n", inFlight.get());
+        }
+    }
+
+    public Map<String, EndpointStats> getStats() {
+        return stats;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    /**
+     * Successful-request latencies and error count for one endpoint
+     */
+    public static class EndpointStats {
+        private final Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        private final AtomicLong errors = new AtomicLong();
+
+        void record(long intendedStart, Throwable failure) {
+            if (failure != null) {
+                errors.incrementAndGet();
+                return;
+            }
+            long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStart);
+            histogram.recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+        }
+
+        public Histogram getHistogram() {
+            return histogram;
+        }
+
+        public long getErrors() {
+            return errors.get();
+        }
+    }
+}
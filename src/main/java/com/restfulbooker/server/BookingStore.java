@@ -0,0 +1,79 @@
+package com.restfulbooker.server;
+
+import com.restfulbooker.models.Booking;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+
+/**
+ * In-memory bookings of the {@link EmbeddedBookerServer}, keyed by id in creation order.
+ * Stored bookings are never modified; updates replace them with a new instance, so a
+ * booking can be serialized while another request updates it.
+ */
+class BookingStore {
+
+    private final Map<Integer, Booking> bookings = new ConcurrentSkipListMap<>();
+    private final AtomicInteger nextId = new AtomicInteger(1);
+
+    int create(Booking booking) {
+        int bookingId = nextId.getAndIncrement();
+        bookings.put(bookingId, booking);
+        return bookingId;
+    }
+
+    /**
+     * @return the booking, or {@code null} when there is none with this id
+     */
+    Booking get(int bookingId) {
+        return bookings.get(bookingId);
+    }
+
+    /**
+     * Atomically replace a booking with the result of {@code update}
+     *
+     * @return the new booking, or {@code null} when there is none with this id
+     */
+    Booking update(int bookingId, UnaryOperator<Booking> update) {
+        return bookings.computeIfPresent(bookingId, (id, current) -> update.apply(current));
+    }
+
+    boolean delete(int bookingId) {
+        return bookings.remove(bookingId) != null;
+    }
+
+    /**
+     * Ids of the bookings matching every given filter; {@code null} filters match all.
+     * Like Restful Booker, check-in and check-out match on or after the given date.
+     */
+    List<Integer> find(String firstName, String lastName, LocalDate checkIn, LocalDate checkOut) {
+        List<Integer> bookingIds = new ArrayList<>();
+        bookings.forEach((bookingId, booking) -> {
+            if ((firstName == null || firstName.equals(booking.getFirstName()))
+                    && (lastName == null || lastName.equals(booking.getLastName()))
+                    && (checkIn == null || !booking.getBookingDates().getCheckIn().isBefore(checkIn))
+                    && (checkOut == null || !booking.getBookingDates().getCheckOut().isBefore(checkOut))) {
+                bookingIds.add(bookingId);
+            }
+        });
+        return bookingIds;
+    }
+
+    /**
+     * Whether every field Restful Booker requires is set
+     */
+    static boolean isComplete(Booking booking) {
+        return booking != null
+                && booking.getFirstName() != null
+                && booking.getLastName() != null
+                && booking.getTotalPrice() != null
+                && booking.getDepositPaid() != null
+                && booking.getBookingDates() != null
+                && booking.getBookingDates().getCheckIn() != null
+                && booking.getBookingDates().getCheckOut() != null;
+    }
+}
@@ -0,0 +1,383 @@
+package com.restfulbooker.server;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.restfulbooker.models.AuthResponse;
+import com.restfulbooker.models.Booking;
+import com.restfulbooker.models.BookingResponse;
+import com.restfulbooker.utils.ApiEndpoints;
+import com.restfulbooker.utils.TestDataGenerator;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process stand-in for Restful Booker on an ephemeral loopback port, selected with
+ * {@code base.url=embedded}. It serves {@code /ping}, {@code /auth}, {@code /booking}
+ * and {@code /booking/{id}} with the status codes and bodies of the real API, including
+ * its quirks: failed logins are 200 with a reason, an incomplete new booking is a 500,
+ * deleting answers 201, and changing a booking that does not exist is a 405. Bookings
+ * and tokens live in memory, so a run does not depend on, or leave data in, a shared
+ * environment.
+ * <p>
+ * The server starts with {@value #SEED_BOOKINGS} random bookings, like the real one
+ * after a reset, and runs on daemon threads until the JVM exits.
+ */
+public class EmbeddedBookerServer {
+
+    /**
+     * {@code base.url} value that selects the embedded server
+     */
+    public static final String BASE_URL = "embedded";
+
+    private static final Logger logger = LoggerFactory.getLogger(EmbeddedBookerServer.class);
+    private static final int SEED_BOOKINGS = 10;
+    private static final String USERNAME = "admin";
+    private static final String PASSWORD = "password123";
+    private static final String BASIC_AUTH = "Basic " + Base64.getEncoder()
+            .encodeToString((USERNAME + ":" + PASSWORD).getBytes(StandardCharsets.UTF_8));
+    private static final String BOOKING_PATH_PREFIX = ApiEndpoints.BOOKING + "/";
+
+    private final BookingStore store = new BookingStore();
+    private final Set<String> tokens = ConcurrentHashMap.newKeySet();
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    private final HttpServer server;
+
+    private EmbeddedBookerServer() {
+        for (int i = 0; i < SEED_BOOKINGS; i++) {
+            store.create(TestDataGenerator.generateRandomBooking());
+        }
+        // Headers and body go out in separate writes; without TCP_NODELAY, Nagle and delayed
+        // ACKs add tens of milliseconds to every response. Read once, when the first server starts.
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start the embedded Restful Booker server", e);
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "embedded-booker-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        // The dispatcher thread inherits daemon status from the thread that starts it
+        Thread starter = new Thread(server::start);
+        starter.setDaemon(true);
+        starter.start();
+        try {
+            starter.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while starting the embedded Restful Booker server", e);
+        }
+        logger.info("Embedded Restful Booker server listening on {}", getBaseUrl());
+    }
+
+    /**
+     * The server, started on first use
+     */
+    public static EmbeddedBookerServer getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * The embedded server's URL for {@link #BASE_URL}, any other base URL unchanged
+     */
+    public static String resolveBaseUrl(String baseUrl) {
+        return BASE_URL.equalsIgnoreCase(baseUrl) ? getInstance().getBaseUrl() : baseUrl;
+    }
+
+    public String getBaseUrl() {
+        InetSocketAddress address = server.getAddress();
+        return "http://" + address.getHostString() + ":" + address.getPort();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            byte[] body = exchange.getRequestBody().readAllBytes();
+            route(exchange, body);
+        } catch (RuntimeException e) {
+            logger.warn("Embedded server failed on {} {}", exchange.getRequestMethod(), exchange.getRequestURI(), e);
+            sendText(exchange, 500, "Internal Server Error");
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void route(HttpExchange exchange, byte[] body) throws IOException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getRawPath();
+
+        if (path.equals(ApiEndpoints.PING) && method.equals("GET")) {
+            sendText(exchange, 201, "Created");
+        } else if (path.equals(ApiEndpoints.AUTH) && method.equals("POST")) {
+            auth(exchange, body);
+        } else if (path.equals(ApiEndpoints.BOOKING) && method.equals("GET")) {
+            listBookings(exchange);
+        } else if (path.equals(ApiEndpoints.BOOKING) && method.equals("POST")) {
+            createBooking(exchange, body);
+        } else if (path.startsWith(BOOKING_PATH_PREFIX) && path.indexOf('/', BOOKING_PATH_PREFIX.length()) < 0) {
+            String id = URLDecoder.decode(path.substring(BOOKING_PATH_PREFIX.length()), StandardCharsets.UTF_8);
+            switch (method) {
+                case "GET":
+                    getBooking(exchange, parseId(id));
+                    break;
+                case "PUT":
+                    updateBooking(exchange, parseId(id), body);
+                    break;
+                case "PATCH":
+                    patchBooking(exchange, parseId(id), body);
+                    break;
+                case "DELETE":
+                    deleteBooking(exchange, parseId(id));
+                    break;
+                default:
+                    sendText(exchange, 404, "Not Found");
+            }
+        } else {
+            sendText(exchange, 404, "Not Found");
+        }
+    }
+
+    private void auth(HttpExchange exchange, byte[] body) throws IOException {
+        JsonNode credentials = readJson(exchange, body);
+        if (credentials == null) {
+            sendText(exchange, 400, "Bad Request");
+            return;
+        }
+        if (USERNAME.equals(credentials.path("username").asText(null))
+                && PASSWORD.equals(credentials.path("password").asText(null))) {
+            String token = UUID.randomUUID().toString().replace("-", "").substring(0, 15);
+            tokens.add(token);
+            sendJson(exchange, 200, new AuthResponse(token));
+        } else {
+            sendJson(exchange, 200, Map.of("reason", "Bad credentials"));
+        }
+    }
+
+    private void listBookings(HttpExchange exchange) throws IOException {
+        Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+        List<Integer> bookingIds;
+        try {
+            bookingIds = store.find(query.get(ApiEndpoints.FIRSTNAME_PARAM), query.get(ApiEndpoints.LASTNAME_PARAM),
+                    parseDate(query.get(ApiEndpoints.CHECKIN_PARAM)), parseDate(query.get(ApiEndpoints.CHECKOUT_PARAM)));
+        } catch (DateTimeParseException e) {
+            sendText(exchange, 400, "Bad Request");
+            return;
+        }
+        List<Map<String, Integer>> entries = bookingIds.stream()
+                .map(bookingId -> Map.of("bookingid", bookingId))
+                .toList();
+        sendJson(exchange, 200, entries);
+    }
+
+    private void createBooking(HttpExchange exchange, byte[] body) throws IOException {
+        JsonNode json = readJson(exchange, body);
+        if (json == null) {
+            sendText(exchange, 400, "Bad Request");
+            return;
+        }
+        Booking booking = toBooking(json);
+        if (!BookingStore.isComplete(booking)) {
+            sendText(exchange, 500, "Internal Server Error");
+            return;
+        }
+        sendJson(exchange, 200, new BookingResponse(store.create(booking), booking));
+    }
+
+    private void getBooking(HttpExchange exchange, int bookingId) throws IOException {
+        Booking booking = store.get(bookingId);
+        if (booking == null) {
+            sendText(exchange, 404, "Not Found");
+        } else {
+            sendJson(exchange, 200, booking);
+        }
+    }
+
+    private void updateBooking(HttpExchange exchange, int bookingId, byte[] body) throws IOException {
+        if (!isAuthorized(exchange.getRequestHeaders())) {
+            sendText(exchange, 403, "Forbidden");
+            return;
+        }
+        JsonNode json = readJson(exchange, body);
+        Booking booking = json == null ? null : toBooking(json);
+        if (!BookingStore.isComplete(booking)) {
+            sendText(exchange, 400, "Bad Request");
+            return;
+        }
+        Booking updated = store.update(bookingId, current -> booking);
+        if (updated == null) {
+            sendText(exchange, 405, "Method Not Allowed");
+        } else {
+            sendJson(exchange, 200, updated);
+        }
+    }
+
+    private void patchBooking(HttpExchange exchange, int bookingId, byte[] body) throws IOException {
+        if (!isAuthorized(exchange.getRequestHeaders())) {
+            sendText(exchange, 403, "Forbidden");
+            return;
+        }
+        JsonNode json = readJson(exchange, body);
+        if (json == null || !json.isObject()) {
+            sendText(exchange, 400, "Bad Request");
+            return;
+        }
+        Booking updated;
+        try {
+            updated = store.update(bookingId, current -> {
+                ObjectNode merged = objectMapper.valueToTree(current);
+                merged.setAll((ObjectNode) json);
+                Booking booking = toBooking(merged);
+                if (!BookingStore.isComplete(booking)) {
+                    // Leaves the stored booking as it was
+                    throw new IllegalArgumentException("Patch does not leave a valid booking");
+                }
+                return booking;
+            });
+        } catch (IllegalArgumentException e) {
+            sendText(exchange, 400, "Bad Request");
+            return;
+        }
+        if (updated == null) {
+            sendText(exchange, 405, "Method Not Allowed");
+        } else {
+            sendJson(exchange, 200, updated);
+        }
+    }
+
+    private void deleteBooking(HttpExchange exchange, int bookingId) throws IOException {
+        if (!isAuthorized(exchange.getRequestHeaders())) {
+            sendText(exchange, 403, "Forbidden");
+        } else if (!store.delete(bookingId)) {
+            sendText(exchange, 405, "Method Not Allowed");
+        } else {
+            sendText(exchange, 201, "Created");
+        }
+    }
+
+    private boolean isAuthorized(Headers headers) {
+        if (BASIC_AUTH.equals(headers.getFirst("Authorization"))) {
+            return true;
+        }
+        List<String> cookieHeaders = headers.get("Cookie");
+        if (cookieHeaders == null) {
+            return false;
+        }
+        for (String cookieHeader : cookieHeaders) {
+            for (String cookie : cookieHeader.split(";")) {
+                String trimmed = cookie.trim();
+                if (trimmed.startsWith("token=") && tokens.contains(trimmed.substring("token=".length()))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The request body as JSON, {@code null} when it is malformed. Like the real API, a
+     * body that is not declared as JSON is read as an empty object.
+     */
+    private JsonNode readJson(HttpExchange exchange, byte[] body) {
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        if (body.length == 0 || contentType == null || !contentType.contains("json")) {
+            return objectMapper.createObjectNode();
+        }
+        try {
+            return objectMapper.readTree(body);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return the booking, or {@code null} when the JSON does not map onto one
+     */
+    private Booking toBooking(JsonNode json) {
+        try {
+            return objectMapper.treeToValue(json, Booking.class);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return the id, or -1 (which never exists) when it is not a number
+     */
+    private static int parseId(String id) {
+        try {
+            return Integer.parseInt(id);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static LocalDate parseDate(String date) {
+        return date == null ? null : LocalDate.parse(date);
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            String name = separator < 0 ? pair : pair.substring(0, separator);
+            String value = separator < 0 ? "" : pair.substring(separator + 1);
+            query.put(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+
+    private void sendJson(HttpExchange exchange, int status, Object body) throws IOException {
+        send(exchange, status, "application/json; charset=utf-8", objectMapper.writeValueAsBytes(body));
+    }
+
+    private static void sendText(HttpExchange exchange, int status, String body) throws IOException {
+        send(exchange, status, "text/plain; charset=utf-8", body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, body.length);
+        exchange.getResponseBody().write(body);
+    }
+
+    private static final class Holder {
+        private static final EmbeddedBookerServer INSTANCE = new EmbeddedBookerServer();
+    }
+}
@@ -0,0 +1,221 @@
+package com.restfulbooker.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * Limit on the requests in flight that adapts to the backend with additive increase and
+ * multiplicative decrease (AIMD), in the style of Netflix concurrency-limits. While the
+ * limit is in use and latency holds, it grows by one per limit's worth of completed
+ * requests, i.e. by about one per round trip. It is multiplied by the backoff ratio when
+ * a request is dropped (overload status or no response) or when the short-term average
+ * latency exceeds {@code latencyTolerance} times the long-term one, at most once per
+ * round trip, so one burst of failures halves the limit once instead of driving it to
+ * the minimum.
+ * <p>
+ * Requests over the limit wait in arrival order, either blocking in {@link #acquire()}
+ * or as a pending {@link #acquireAsync()} future. Every permit must end with exactly one
+ * of {@link Permit#onSuccess()}, {@link Permit#onDropped()} or {@link Permit#release()}.
+ */
+public class AdaptiveConcurrencyLimit {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveConcurrencyLimit.class);
+    private static final double SHORT_RTT_WEIGHT = 0.1;
+    private static final double LONG_RTT_WEIGHT = 0.01;
+    private static final int WARMUP_SAMPLES = 10;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+    private final LongSupplier nanoClock;
+    private final Deque<CompletableFuture<Permit>> waiters = new ArrayDeque<>();
+
+    private double limit;
+    private int inFlight;
+    private long samples;
+    private double shortRttNanos;
+    private double longRttNanos;
+    private long lastDecreaseNanos;
+
+    /**
+     * @param backoffRatio     factor applied to the limit on overload, e.g. 0.5 to halve it
+     * @param latencyTolerance ratio of short-term to long-term latency treated as overload
+     */
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double backoffRatio,
+                                    double latencyTolerance) {
+        this(initialLimit, minLimit, maxLimit, backoffRatio, latencyTolerance, System::nanoTime);
+    }
+
+    /**
+     * @param nanoClock source of {@link System#nanoTime()} readings
+     */
+    AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double backoffRatio,
+                             double latencyTolerance, LongSupplier nanoClock) {
+        if (minLimit < 1 || initialLimit < minLimit || maxLimit < initialLimit) {
+            throw new IllegalArgumentException("Concurrency limits must satisfy 1 <= min <= initial <= max: "
+                    + minLimit + ", " + initialLimit + ", " + maxLimit);
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1 || latencyTolerance <= 1) {
+            throw new IllegalArgumentException("Backoff ratio must be in (0, 1) and latency tolerance above 1: "
+                    + backoffRatio + ", " + latencyTolerance);
+        }
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyTolerance = latencyTolerance;
+        this.nanoClock = nanoClock;
+        this.lastDecreaseNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * A permit once fewer than {@link #getLimit()} requests are in flight; completes
+     * immediately when that is already the case
+     */
+    public CompletableFuture<Permit> acquireAsync() {
+        synchronized (this) {
+            if (waiters.isEmpty() && inFlight < (int) limit) {
+                inFlight++;
+                return CompletableFuture.completedFuture(new Permit());
+            }
+            CompletableFuture<Permit> waiter = new CompletableFuture<>();
+            waiters.addLast(waiter);
+            return waiter;
+        }
+    }
+
+    /**
+     * Wait for a permit
+     */
+    public Permit acquire() {
+        CompletableFuture<Permit> permit = acquireAsync();
+        try {
+            return permit.get();
+        } catch (InterruptedException e) {
+            if (!permit.cancel(false)) {
+                permit.join().release();
+            }
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a concurrency permit", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Concurrency permit failed", e.getCause());
+        }
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    private void complete(Permit permit, boolean sampled, boolean dropped) {
+        synchronized (this) {
+            int used = inFlight--;
+            if (sampled) {
+                adjust(permit.startNanos, nanoClock.getAsLong() - permit.startNanos, dropped, used);
+            }
+        }
+        grantWaiters();
+    }
+
+    /**
+     * @param used requests in flight including the completed one
+     */
+    private void adjust(long startNanos, long rttNanos, boolean dropped, int used) {
+        if (!dropped) {
+            samples++;
+            if (samples == 1) {
+                shortRttNanos = rttNanos;
+                longRttNanos = rttNanos;
+            } else {
+                shortRttNanos += SHORT_RTT_WEIGHT * (rttNanos - shortRttNanos);
+                longRttNanos += LONG_RTT_WEIGHT * (rttNanos - longRttNanos);
+            }
+        }
+        boolean congested = dropped
+                || (samples > WARMUP_SAMPLES && shortRttNanos > latencyTolerance * longRttNanos);
+
+        if (congested) {
+            // Requests sent before the last decrease saw the old limit; do not punish it twice
+            if (startNanos - lastDecreaseNanos > 0) {
+                double previous = limit;
+                limit = Math.max(minLimit, limit * backoffRatio);
+                lastDecreaseNanos = nanoClock.getAsLong();
+                logger.debug("Concurrency limit decreased from {} to {} ({})", (int) previous, (int) limit,
+                        dropped ? "request dropped" : "latency rising");
+            }
+        } else if (used * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1 / limit);
+        }
+    }
+
+    private void grantWaiters() {
+        List<CompletableFuture<Permit>> granted = new ArrayList<>();
+        synchronized (this) {
+            while (inFlight < (int) limit && !waiters.isEmpty()) {
+                CompletableFuture<Permit> waiter = waiters.pollFirst();
+                if (!waiter.isDone()) {
+                    inFlight++;
+                    granted.add(waiter);
+                }
+            }
+        }
+        // Complete outside the lock; the waiters' continuations may send requests right away
+        for (CompletableFuture<Permit> waiter : granted) {
+            Permit permit = new Permit();
+            if (!waiter.complete(permit)) {
+                permit.release();
+            }
+        }
+    }
+
+    /**
+     * Permission to send one request
+     */
+    public final class Permit {
+        private final long startNanos = nanoClock.getAsLong();
+        private final AtomicBoolean completed = new AtomicBoolean();
+
+        private Permit() {
+        }
+
+        /**
+         * The request got a response that does not indicate overload
+         */
+        public void onSuccess() {
+            if (completed.compareAndSet(false, true)) {
+                complete(this, true, false);
+            }
+        }
+
+        /**
+         * The request got an overload response or none at all
+         */
+        public void onDropped() {
+            if (completed.compareAndSet(false, true)) {
+                complete(this, true, true);
+            }
+        }
+
+        /**
+         * Return the permit without a sample, e.g. when the request was never sent
+         */
+        public void release() {
+            if (completed.compareAndSet(false, true)) {
+                complete(this, false, false);
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.restfulbooker.utils;
+
+import com.restfulbooker.config.Configuration;
+import io.qameta.allure.Allure;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Decides which captured {@link HttpExchange}s become Allure attachments and how big
+ * they get, so the results directory and report generation stay small as the suite grows.
+ * <ul>
+ *   <li>{@code allure.attachments}: {@code failure} (default) attaches the exchanges of
+ *   failed tests only, {@code sample} additionally 1 in {@code allure.attachments.sample.rate}
+ *   exchanges of passing tests, {@code all} every exchange and {@code none} nothing</li>
+ *   <li>{@code allure.attachments.max.body}: bodies longer than this many characters are
+ *   cut with a truncation marker</li>
+ *   <li>{@code allure.attachments.gzip}: the untruncated exchange is also attached as a
+ *   gzip file that is only expanded when downloaded</li>
+ * </ul>
+ */
+public class AllureAttachmentPolicy {
+
+    public enum Mode {
+        NONE, FAILURE, SAMPLE, ALL
+    }
+
+    private static final AllureAttachmentPolicy instance = fromConfiguration();
+
+    private final Mode mode;
+    private final int sampleRate;
+    private final int maxBodyChars;
+    private final boolean gzip;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public AllureAttachmentPolicy(Mode mode, int sampleRate, int maxBodyChars, boolean gzip) {
+        if (sampleRate <= 0) {
+            throw new IllegalArgumentException("Sample rate must be positive");
+        }
+        this.mode = mode;
+        this.sampleRate = sampleRate;
+        this.maxBodyChars = maxBodyChars;
+        this.gzip = gzip;
+    }
+
+    public static AllureAttachmentPolicy getInstance() {
+        return instance;
+    }
+
+    private static AllureAttachmentPolicy fromConfiguration() {
+        Configuration config = Configuration.getInstance();
+        String mode = config.getAllureAttachmentMode();
+        try {
+            return new AllureAttachmentPolicy(Mode.valueOf(mode.toUpperCase(Locale.ROOT)),
+                    config.getAllureAttachmentSampleRate(),
+                    config.getAllureAttachmentMaxBody(),
+                    config.isAllureAttachmentGzipEnabled());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown allure.attachments mode: " + mode, e);
+        }
+    }
+
+    public boolean isEnabled() {
+        return mode != Mode.NONE;
+    }
+
+    /**
+     * Attach the exchanges of one test method according to the mode
+     */
+    public void attach(List<HttpExchange> exchanges, boolean failed) {
+        for (HttpExchange exchange : exchanges) {
+            if (shouldAttach(failed)) {
+                attach(exchange);
+            }
+        }
+    }
+
+    private boolean shouldAttach(boolean failed) {
+        switch (mode) {
+            case ALL:
+                return true;
+            case SAMPLE:
+                return failed || sequence.incrementAndGet() % sampleRate == 0;
+            case FAILURE:
+                return failed;
+            default:
+                return false;
+        }
+    }
+
+    private void attach(HttpExchange exchange) {
+        String title = exchange.getTitle();
+        Allure.addAttachment(title, "text/plain", exchange.format(maxBodyChars), ".txt");
+        if (gzip && exchange.exceeds(maxBodyChars)) {
+            Allure.addAttachment(title + " (full, gzip)", "application/gzip",
+                    new ByteArrayInputStream(compress(exchange.format())), ".txt.gz");
+        }
+    }
+
+    private static byte[] compress(String text) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(text.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compress attachment", e);
+        }
+        return buffer.toByteArray();
+    }
+}
@@ -0,0 +1,372 @@
+package com.restfulbooker.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.restfulbooker.config.Configuration;
+import com.restfulbooker.server.EmbeddedBookerServer;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.LogConfig;
+import io.restassured.config.ObjectMapperConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.filter.Filter;
+import io.restassured.http.Cookie;
+import io.restassured.http.Cookies;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.mapper.ObjectMapperType;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Everything needed to talk to one API environment: base URL, timeouts, connection pool,
+ * object mapper, circuit breaker, retry budget, request limiter, health check cache,
+ * token manager, booking fixtures and filters. Nothing is shared through RestAssured's
+ * global statics, so several contexts can target different environments with different
+ * pool sizing from the same JVM at the same time.
+ * <pre>
+ * ApiClientContext staging = ApiClientContext.builder()
+ *         .baseUrl("https://staging.example.com")
+ *         .maxTotalConnections(50)
+ *         .build();
+ * staging.getBaseRequestSpec().get(ApiEndpoints.PING);
+ * </pre>
+ * {@link #getDefault()} is built from {@link Configuration}; {@link RestAssuredHelper}
+ * delegates to it.
+ */
+public class ApiClientContext {
+
+    private static final int MAX_CACHED_TOKEN_COOKIES = 32;
+    private static final Headers defaultHeaders = new Headers(
+            new Header("Content-Type", "application/json"),
+            new Header("Accept", "application/json"));
+    private static final Map<String, ApiClientContext> contextsByBaseUrl = new ConcurrentHashMap<>();
+
+    private final String baseUrl;
+    private final ObjectMapper objectMapper;
+    private final HttpConnectionPool connectionPool;
+    private final CircuitBreaker circuitBreaker;
+    private final RetryBudget retryBudget;
+    private final RequestLimiter requestLimiter;
+    private final HealthCheckCache healthCheckCache;
+    private final AuthTokenManager authTokenManager;
+    private final BookingFixturePool bookingFixtures;
+    private final CreatedBookingRegistry createdBookings;
+    private final RestAssuredConfig restAssuredConfig;
+    private final List<Filter> defaultFilters;
+    private final List<Filter> authenticatedFilters;
+    private final Map<String, Cookies> tokenCookies =
+            Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Cookies> eldest) {
+                    return size() > MAX_CACHED_TOKEN_COOKIES;
+                }
+            });
+
+    private ApiClientContext(Builder builder) {
+        Configuration config = builder.config;
+        this.baseUrl = builder.baseUrl;
+        this.objectMapper = builder.objectMapper != null ? builder.objectMapper : createObjectMapper();
+        this.connectionPool = new HttpConnectionPool(builder.maxTotalConnections, builder.maxConnectionsPerRoute,
+                config.getIdleConnectionTimeout(), config.getKeepAliveDuration());
+        this.circuitBreaker = CircuitBreaker.fromConfiguration(config);
+        this.retryBudget = new RetryBudget(config.getRetryBudgetRatio(), config.getRetryBudgetMinimum());
+        this.requestLimiter = config.isLimiterEnabled() ? RequestLimiter.fromConfiguration(config) : null;
+        this.healthCheckCache = new HealthCheckCache(config.getHealthCheckFreshness());
+        this.authTokenManager = new AuthTokenManager(config.getAuthTokenTtl(), this::getBaseRequestSpec);
+        this.bookingFixtures = new BookingFixturePool(this, config.getFixturePoolSize());
+        this.createdBookings = new CreatedBookingRegistry(this, config.getCleanupConcurrency());
+        this.restAssuredConfig = createRestAssuredConfig(builder);
+        this.defaultFilters = buildFilters(config, null);
+        this.authenticatedFilters = buildFilters(config, new AuthRefreshFilter(authTokenManager));
+    }
+
+    /**
+     * Builder with every setting taken from {@link Configuration}
+     */
+    public static Builder builder() {
+        return new Builder(Configuration.getInstance());
+    }
+
+    /**
+     * The context for {@code base.url} and the other configuration properties
+     */
+    public static ApiClientContext getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    /**
+     * A context for {@code baseUrl} with otherwise configured settings, created once per URL.
+     * {@code embedded} is the in-process stand-in server.
+     */
+    public static ApiClientContext forBaseUrl(String baseUrl) {
+        String resolved = EmbeddedBookerServer.resolveBaseUrl(baseUrl);
+        if (resolved.equals(getDefault().getBaseUrl())) {
+            return getDefault();
+        }
+        return contextsByBaseUrl.computeIfAbsent(resolved, url -> builder().baseUrl(url).build());
+    }
+
+    /**
+     * Reset health, circuit breaker and token state of every context, e.g. between suite runs
+     */
+    public static void resetAll() {
+        getDefault().reset();
+        contextsByBaseUrl.values().forEach(ApiClientContext::reset);
+    }
+
+    /**
+     * Delete the bookings every context has created
+     *
+     * @return the number of deletions that failed
+     */
+    public static int deleteAllCreatedBookings() {
+        int failed = getDefault().getCreatedBookings().deleteAll();
+        for (ApiClientContext context : contextsByBaseUrl.values()) {
+            failed += context.getCreatedBookings().deleteAll();
+        }
+        return failed;
+    }
+
+    public void reset() {
+        healthCheckCache.reset();
+        circuitBreaker.reset();
+        retryBudget.reset();
+        authTokenManager.invalidateAll();
+        tokenCookies.clear();
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    public HttpConnectionPool getConnectionPool() {
+        return connectionPool;
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public RetryBudget getRetryBudget() {
+        return retryBudget;
+    }
+
+    /**
+     * Rate and concurrency limits for requests to this environment, or {@code null} with
+     * {@code limiter.enabled=false}
+     */
+    public RequestLimiter getRequestLimiter() {
+        return requestLimiter;
+    }
+
+    public HealthCheckCache getHealthCheckCache() {
+        return healthCheckCache;
+    }
+
+    public AuthTokenManager getAuthTokenManager() {
+        return authTokenManager;
+    }
+
+    public BookingFixturePool getBookingFixtures() {
+        return bookingFixtures;
+    }
+
+    /**
+     * Bookings created through this context and not deleted yet; only tracked with
+     * {@code cleanup.enabled}
+     */
+    public CreatedBookingRegistry getCreatedBookings() {
+        return createdBookings;
+    }
+
+    /**
+     * Request specification with the common headers and filters of this context
+     */
+    public RequestSpecification getBaseRequestSpec() {
+        return newRequestSpec()
+                .filters(defaultFilters);
+    }
+
+    /**
+     * Request specification with the token cookie. Tokens issued by this context's
+     * {@link AuthTokenManager} are refreshed and the request retried on 403.
+     */
+    public RequestSpecification getAuthenticatedRequestSpec(String token) {
+        Cookies cookies = tokenCookies.computeIfAbsent(token,
+                key -> new Cookies(new Cookie.Builder("token", key).build()));
+        return newRequestSpec()
+                .filters(authenticatedFilters)
+                .cookies(cookies);
+    }
+
+    public RequestSpecification getBasicAuthRequestSpec(String username, String password) {
+        return getBaseRequestSpec()
+                .auth().basic(username, password);
+    }
+
+    public Response performHealthCheck() {
+        return getBaseRequestSpec()
+                .when()
+                .get(ApiEndpoints.PING)
+                .then()
+                .extract()
+                .response();
+    }
+
+    /**
+     * Close the pooled connections. Contexts from {@link #getDefault()} and
+     * {@link #forBaseUrl(String)} live for the whole JVM and are never closed.
+     */
+    public void close() {
+        connectionPool.shutdown();
+    }
+
+    private RequestSpecification newRequestSpec() {
+        // The spec is built fresh per call; the headers, config and filters are shared immutable templates
+        return given()
+                .baseUri(baseUrl)
+                .config(restAssuredConfig)
+                .headers(defaultHeaders);
+    }
+
+    private RestAssuredConfig createRestAssuredConfig(Builder builder) {
+        // A single pooled keep-alive client per context so sockets are reused across requests
+        return RestAssuredConfig.config()
+                .objectMapperConfig(ObjectMapperConfig.objectMapperConfig()
+                        .defaultObjectMapperType(ObjectMapperType.JACKSON_2)
+                        .jackson2ObjectMapperFactory((cls, charset) -> objectMapper))
+                .logConfig(LogConfig.logConfig().enableLoggingOfRequestAndResponseIfValidationFails())
+                .httpClient(HttpClientConfig.httpClientConfig()
+                        .httpClientFactory(connectionPool::createHttpClient)
+                        .reuseHttpClientInstance()
+                        .setParam("http.connection.timeout", builder.connectionTimeout)
+                        .setParam("http.socket.timeout", builder.socketTimeout)
+                        .setParam("http.connection-manager.timeout", (long) builder.requestTimeout));
+    }
+
+    /**
+     * @param authRefresh filter refreshing rejected tokens, or {@code null} for unauthenticated requests
+     */
+    private List<Filter> buildFilters(Configuration config, AuthRefreshFilter authRefresh) {
+        List<Filter> filters = new ArrayList<>();
+        filters.add(new CircuitBreakerFilter(circuitBreaker));
+        filters.add(new ConnectionReleaseFilter());
+        // Admitted, timed and recorded once per attempt, so retries and their backoff are not one long request.
+        // RetryFilter runs these in list order, outermost first: token refresh, so its resend with a fresh
+        // token is admitted and recorded on its own; admission, so waiting for a permit is not timed; the
+        // JFR event; and timing innermost, around the send alone.
+        List<Filter> attemptFilters = new ArrayList<>();
+        if (authRefresh != null) {
+            attemptFilters.add(authRefresh);
+        }
+        if (requestLimiter != null) {
+            attemptFilters.add(new RequestLimiterFilter(requestLimiter));
+        }
+        attemptFilters.add(new HttpExchangeEventFilter());
+        attemptFilters.add(new LatencyRecordingFilter(LatencyRecorder.getInstance(), RequestJournal.getInstance()));
+        filters.add(new RetryFilter(config.getRetryCount(), config.getRetryBackoffBase(),
+                config.getRetryBackoffMax(), retryBudget, attemptFilters));
+
+        if (config.isCleanupEnabled()) {
+            filters.add(new CreatedBookingFilter(createdBookings, objectMapper));
+        }
+
+        if (config.isLoggingEnabled()) {
+            filters.add(new ExchangeCaptureFilter(config.getSlowExchangeThreshold()));
+        } else if (AllureAttachmentPolicy.getInstance().isEnabled()) {
+            // Still capture exchanges for the report, without logging slow ones
+            filters.add(new ExchangeCaptureFilter(Long.MAX_VALUE));
+        }
+
+        return Collections.unmodifiableList(filters);
+    }
+
+    /**
+     * Jackson mapper with JSR310 support
+     */
+    private static ObjectMapper createObjectMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(new JavaTimeModule());
+        return mapper;
+    }
+
+    private static final class DefaultHolder {
+        private static final ApiClientContext INSTANCE = builder().build();
+    }
+
+    public static class Builder {
+        private final Configuration config;
+        private String baseUrl;
+        private int connectionTimeout;
+        private int socketTimeout;
+        private int requestTimeout;
+        private int maxTotalConnections;
+        private int maxConnectionsPerRoute;
+        private ObjectMapper objectMapper;
+
+        private Builder(Configuration config) {
+            this.config = config;
+            this.baseUrl = EmbeddedBookerServer.resolveBaseUrl(config.getBaseUrl());
+            this.connectionTimeout = config.getConnectionTimeout();
+            this.socketTimeout = config.getSocketTimeout();
+            this.requestTimeout = config.getRequestTimeout();
+            this.maxTotalConnections = config.getMaxTotalConnections();
+            this.maxConnectionsPerRoute = config.getMaxConnectionsPerRoute();
+        }
+
+        public Builder baseUrl(String baseUrl) {
+            this.baseUrl = EmbeddedBookerServer.resolveBaseUrl(baseUrl);
+            return this;
+        }
+
+        public Builder connectionTimeout(int connectionTimeout) {
+            this.connectionTimeout = connectionTimeout;
+            return this;
+        }
+
+        public Builder socketTimeout(int socketTimeout) {
+            this.socketTimeout = socketTimeout;
+            return this;
+        }
+
+        public Builder requestTimeout(int requestTimeout) {
+            this.requestTimeout = requestTimeout;
+            return this;
+        }
+
+        public Builder maxTotalConnections(int maxTotalConnections) {
+            this.maxTotalConnections = maxTotalConnections;
+            return this;
+        }
+
+        public Builder maxConnectionsPerRoute(int maxConnectionsPerRoute) {
+            this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+            return this;
+        }
+
+        public Builder objectMapper(ObjectMapper objectMapper) {
+            this.objectMapper = objectMapper;
+            return this;
+        }
+
+        public ApiClientContext build() {
+            if (baseUrl == null || baseUrl.isEmpty()) {
+                throw new IllegalArgumentException("Base URL is required");
+            }
+            return new ApiClientContext(this);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.restfulbooker.utils;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.http.Cookie;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Filter that retries an authenticated request once with a fresh token when the API
+ * answers 403 to a token issued by {@link AuthTokenManager}. Tokens the manager did
+ * not issue (e.g. deliberately invalid ones) are left untouched, and so are ones that have
+ * not expired yet, whose 403 is the API's real answer to the request.
+ * <p>
+ * Sends the request again by calling {@code ctx.next} a second time, which only the
+ * per-attempt filters of {@link RetryFilter} support; a RestAssured filter chain can only
+ * be walked once.
+ */
+public class AuthRefreshFilter implements Filter {
+
+    private static final int FORBIDDEN = 403;
+
+    private final AuthTokenManager tokenManager;
+
+    public AuthRefreshFilter(AuthTokenManager tokenManager) {
+        this.tokenManager = tokenManager;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Response response = ctx.next(requestSpec, responseSpec);
+
+        Cookie tokenCookie = requestSpec.getCookies().get("token");
+        if (response == null || response.getStatusCode() != FORBIDDEN || tokenCookie == null) {
+            return response;
+        }
+
+        String freshToken = tokenManager.refresh(tokenCookie.getValue());
+        if (freshToken == null || freshToken.equals(tokenCookie.getValue())) {
+            return response;
+        }
+
+        // Release the rejected response's connection before sending again
+        response.asByteArray();
+        requestSpec.replaceCookie("token", freshToken);
+        return ctx.next(requestSpec, responseSpec);
+    }
+}
@@ -0,0 +1,228 @@
+package com.restfulbooker.utils;
+
+import com.restfulbooker.config.Configuration;
+import com.restfulbooker.models.AuthRequest;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Cache of authentication tokens, one per credential pair. Each {@link ApiClientContext}
+ * owns one manager that authenticates against its own base URL.
+ * <p>
+ * Tokens expire after {@code auth.token.ttl} milliseconds. Refreshes are single-flight:
+ * while a POST /auth is in flight every other caller for the same credentials waits
+ * on that request instead of issuing its own.
+ * <p>
+ * A token the API rejects is only refreshed once it has expired: until then the 403 is
+ * an answer about the request, e.g. a delete the user may not make, and the same request
+ * gets the same answer whenever it runs.
+ */
+public class AuthTokenManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuthTokenManager.class);
+
+    private final long ttlMillis;
+    private final Supplier<RequestSpecification> requestSpecs;
+    private final Map<Credentials, CompletableFuture<CachedToken>> tokens = new ConcurrentHashMap<>();
+    private final Map<String, IssuedToken> issuedTokens = new ConcurrentHashMap<>();
+
+    public AuthTokenManager(long ttlMillis) {
+        this(ttlMillis, RestAssuredHelper::getBaseRequestSpec);
+    }
+
+    /**
+     * @param requestSpecs base request specifications for POST /auth
+     */
+    public AuthTokenManager(long ttlMillis, Supplier<RequestSpecification> requestSpecs) {
+        this.ttlMillis = ttlMillis;
+        this.requestSpecs = requestSpecs;
+    }
+
+    /**
+     * The token manager of {@link ApiClientContext#getDefault()}
+     */
+    public static AuthTokenManager getInstance() {
+        return ApiClientContext.getDefault().getAuthTokenManager();
+    }
+
+    /**
+     * Get a token for the configured {@code auth.username} and {@code auth.password}
+     */
+    public String getToken() {
+        Configuration config = Configuration.getInstance();
+        return getToken(config.getAuthUsername(), config.getAuthPassword());
+    }
+
+    /**
+     * Get a valid token for the credentials, authenticating only when none is cached
+     * or the cached one has expired
+     */
+    public String getToken(String username, String password) {
+        return getToken(new Credentials(username, password));
+    }
+
+    /**
+     * Replace a token the API has rejected once it has expired. Concurrent callers
+     * reporting the same token share a single refresh.
+     *
+     * @return the replacement token, the same token while it has not expired, or
+     *         {@code null} when the token was not issued by this manager
+     */
+    public String refresh(String staleToken) {
+        IssuedToken issued = issuedTokens.get(staleToken);
+        if (issued == null) {
+            return null;
+        }
+        if (!issued.cached.isExpired()) {
+            return staleToken;
+        }
+        logger.info("Expired auth token rejected by the API, refreshing");
+        return getToken(issued.credentials);
+    }
+
+    /**
+     * Drop every cached token
+     */
+    public void invalidateAll() {
+        tokens.clear();
+        issuedTokens.clear();
+    }
+
+    private String getToken(Credentials credentials) {
+        while (true) {
+            CompletableFuture<CachedToken> current = tokens.get(credentials);
+            if (current != null && !current.isCompletedExceptionally()) {
+                CachedToken cached = await(current);
+                if (!cached.isExpired()) {
+                    return cached.token;
+                }
+            }
+
+            CompletableFuture<CachedToken> pending = new CompletableFuture<>();
+            boolean owner = current == null
+                    ? tokens.putIfAbsent(credentials, pending) == null
+                    : tokens.replace(credentials, current, pending);
+            if (owner) {
+                return authenticate(credentials, pending, replacedToken(current));
+            }
+            // Another caller started a refresh first - wait on it on the next iteration
+        }
+    }
+
+    /**
+     * @param replaced token this one replaces, kept so requests still in flight with it can
+     *                 be refreshed; older tokens of the same credentials are forgotten
+     */
+    private String authenticate(Credentials credentials, CompletableFuture<CachedToken> pending,
+                                String replaced) {
+        try {
+            String token = requestToken(credentials.username, credentials.password);
+            CachedToken cached = new CachedToken(token, System.currentTimeMillis() + ttlMillis);
+            issuedTokens.values().removeIf(issued -> issued.credentials.equals(credentials)
+                    && !issued.cached.token.equals(replaced));
+            issuedTokens.put(token, new IssuedToken(credentials, cached));
+            pending.complete(cached);
+            return token;
+        } catch (RuntimeException | Error e) {
+            tokens.remove(credentials, pending);
+            pending.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private String requestToken(String username, String password) {
+        logger.info("Requesting auth token for user {}", username);
+
+        Response response = requestSpecs.get()
+                .body(new AuthRequest(username, password))
+                .when()
+                .post(ApiEndpoints.AUTH)
+                .then()
+                .statusCode(200)
+                .extract()
+                .response();
+
+        String token = response.path("token");
+        if (token == null || token.isEmpty()) {
+            throw new IllegalStateException("Authentication rejected for user " + username
+                    + ": " + response.asString());
+        }
+        return token;
+    }
+
+    private static String replacedToken(CompletableFuture<CachedToken> current) {
+        return current != null && current.isDone() && !current.isCompletedExceptionally()
+                ? current.join().token
+                : null;
+    }
+
+    private static CachedToken await(CompletableFuture<CachedToken> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static final class Credentials {
+        private final String username;
+        private final String password;
+
+        private Credentials(String username, String password) {
+            this.username = username;
+            this.password = password;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Credentials that = (Credentials) o;
+            return Objects.equals(username, that.username) && Objects.equals(password, that.password);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(username, password);
+        }
+    }
+
+    private static final class IssuedToken {
+        private final Credentials credentials;
+        private final CachedToken cached;
+
+        private IssuedToken(Credentials credentials, CachedToken cached) {
+            this.credentials = credentials;
+            this.cached = cached;
+        }
+    }
+
+    private static final class CachedToken {
+        private final String token;
+        private final long expiresAt;
+
+        private CachedToken(String token, long expiresAt) {
+            this.token = token;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired() {
+            return System.currentTimeMillis() >= expiresAt;
+        }
+    }
+}
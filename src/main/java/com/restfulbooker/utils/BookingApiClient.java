@@ -0,0 +1,302 @@
+package com.restfulbooker.utils;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restfulbooker.config.Configuration;
+import com.restfulbooker.models.AuthRequest;
+import com.restfulbooker.models.AuthResponse;
+import com.restfulbooker.models.Booking;
+import com.restfulbooker.models.BookingResponse;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking, typed client for the Restful Booker API built on {@code java.net.http}.
+ * Every call returns immediately with a {@link CompletableFuture}, so a single thread
+ * can keep many requests in flight for fan-out and load scenarios. When a
+ * {@link RequestJournal} is given, every exchange is appended to it. When a
+ * {@link RequestLimiter} is given, requests over its limits are queued without blocking
+ * the caller.
+ */
+public class BookingApiClient {
+
+    private static final String JSON = "application/json";
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final Duration requestTimeout;
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper patchMapper;
+    private final RequestJournal journal;
+    private final RequestLimiter limiter;
+    private final String basePath;
+
+    /**
+     * Create a client for the configured base URL and timeouts, sharing the request limits
+     * of that environment's {@link ApiClientContext}
+     */
+    public BookingApiClient() {
+        this(Configuration.getInstance());
+    }
+
+    public BookingApiClient(Configuration config) {
+        this(config, ApiClientContext.forBaseUrl(config.getBaseUrl()));
+    }
+
+    private BookingApiClient(Configuration config, ApiClientContext context) {
+        this(context.getBaseUrl(),
+                Duration.ofMillis(config.getConnectionTimeout()),
+                Duration.ofMillis(config.getRequestTimeout()),
+                RestAssuredHelper.getObjectMapper(),
+                RequestJournal.getInstance(),
+                context.getRequestLimiter());
+    }
+
+    public BookingApiClient(String baseUrl, Duration connectTimeout, Duration requestTimeout, ObjectMapper objectMapper) {
+        this(baseUrl, connectTimeout, requestTimeout, objectMapper, null);
+    }
+
+    /**
+     * @param journal journal to append every exchange to, or {@code null} for none
+     */
+    public BookingApiClient(String baseUrl, Duration connectTimeout, Duration requestTimeout, ObjectMapper objectMapper,
+                            RequestJournal journal) {
+        this(baseUrl, connectTimeout, requestTimeout, objectMapper, journal, null);
+    }
+
+    /**
+     * @param journal journal to append every exchange to, or {@code null} for none
+     * @param limiter limits to admit every request through, or {@code null} for none
+     */
+    public BookingApiClient(String baseUrl, Duration connectTimeout, Duration requestTimeout, ObjectMapper objectMapper,
+                            RequestJournal journal, RequestLimiter limiter) {
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(connectTimeout)
+                .build();
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.requestTimeout = requestTimeout;
+        this.objectMapper = objectMapper;
+        // Partial updates must only carry the fields that are set
+        this.patchMapper = objectMapper.copy().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        this.journal = journal;
+        this.limiter = limiter;
+        String rawBasePath = URI.create(this.baseUrl).getRawPath();
+        this.basePath = rawBasePath == null ? "" : rawBasePath;
+    }
+
+    /**
+     * Create an authentication token. Completes exceptionally when the credentials are rejected.
+     */
+    public CompletableFuture<AuthResponse> auth(AuthRequest authRequest) {
+        HttpRequest request = newRequest(ApiEndpoints.AUTH)
+                .POST(jsonBody(objectMapper, authRequest))
+                .build();
+
+        return send(request).thenApply(response -> {
+            expectStatus(response, 200, "Authentication failed");
+            JsonNode body = readTree(response);
+            if (!body.hasNonNull("token")) {
+                throw new BookingApiException("Authentication rejected", response.statusCode(), response.body());
+            }
+            return new AuthResponse(body.get("token").asText());
+        });
+    }
+
+    public CompletableFuture<BookingResponse> createBooking(Booking booking) {
+        HttpRequest request = newRequest(ApiEndpoints.BOOKING)
+                .POST(jsonBody(objectMapper, booking))
+                .build();
+
+        return send(request).thenApply(response -> {
+            expectStatus(response, 200, "Create booking failed");
+            return read(response, BookingResponse.class);
+        });
+    }
+
+    public CompletableFuture<Booking> getBooking(int bookingId) {
+        HttpRequest request = newRequest(bookingPath(bookingId))
+                .GET()
+                .build();
+
+        return send(request).thenApply(response -> {
+            expectStatus(response, 200, "Get booking " + bookingId + " failed");
+            return read(response, Booking.class);
+        });
+    }
+
+    public CompletableFuture<Booking> updateBooking(int bookingId, Booking booking, String token) {
+        HttpRequest request = newRequest(bookingPath(bookingId))
+                .header("Cookie", "token=" + token)
+                .PUT(jsonBody(objectMapper, booking))
+                .build();
+
+        return send(request).thenApply(response -> {
+            expectStatus(response, 200, "Update booking " + bookingId + " failed");
+            return read(response, Booking.class);
+        });
+    }
+
+    /**
+     * Partially update a booking. Only the non-null fields of {@code partialBooking} are sent.
+     */
+    public CompletableFuture<Booking> patchBooking(int bookingId, Booking partialBooking, String token) {
+        HttpRequest request = newRequest(bookingPath(bookingId))
+                .header("Cookie", "token=" + token)
+                .method("PATCH", jsonBody(patchMapper, partialBooking))
+                .build();
+
+        return send(request).thenApply(response -> {
+            expectStatus(response, 200, "Patch booking " + bookingId + " failed");
+            return read(response, Booking.class);
+        });
+    }
+
+    /**
+     * Delete a booking. Restful Booker answers a successful delete with 201 Created.
+     */
+    public CompletableFuture<Void> deleteBooking(int bookingId, String token) {
+        HttpRequest request = newRequest(bookingPath(bookingId))
+                .header("Cookie", "token=" + token)
+                .DELETE()
+                .build();
+
+        return send(request).thenAccept(response ->
+                expectStatus(response, 201, "Delete booking " + bookingId + " failed"));
+    }
+
+    public CompletableFuture<List<Integer>> listBookings() {
+        return listBookings(Collections.emptyMap());
+    }
+
+    /**
+     * List booking ids, optionally filtered by the {@link ApiEndpoints} query parameters
+     */
+    public CompletableFuture<List<Integer>> listBookings(Map<String, String> queryParams) {
+        HttpRequest request = newRequest(ApiEndpoints.BOOKING + queryString(queryParams))
+                .GET()
+                .build();
+
+        return send(request).thenApply(response -> {
+            expectStatus(response, 200, "List bookings failed");
+            List<Integer> bookingIds = new ArrayList<>();
+            for (JsonNode entry : readTree(response)) {
+                bookingIds.add(entry.get("bookingid").asInt());
+            }
+            return bookingIds;
+        });
+    }
+
+    private CompletableFuture<HttpResponse<String>> send(HttpRequest request) {
+        if (limiter == null) {
+            return exchange(request);
+        }
+        return limiter.acquireAsync(path(request)).thenCompose(permit -> {
+            CompletableFuture<HttpResponse<String>> exchange;
+            try {
+                exchange = exchange(request);
+            } catch (RuntimeException e) {
+                permit.release();
+                throw e;
+            }
+            return exchange.whenComplete((response, failure) -> {
+                if (failure != null || RequestLimiter.isOverloadStatus(response.statusCode())) {
+                    permit.onDropped();
+                } else {
+                    permit.onSuccess();
+                }
+            });
+        });
+    }
+
+    private CompletableFuture<HttpResponse<String>> exchange(HttpRequest request) {
+        if (journal == null) {
+            return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+        }
+        long start = System.nanoTime();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .whenComplete((response, failure) -> journal(request, response, System.nanoTime() - start));
+    }
+
+    private void journal(HttpRequest request, HttpResponse<String> response, long elapsedNanos) {
+        long requestBytes = request.bodyPublisher().map(HttpRequest.BodyPublisher::contentLength).orElse(0L);
+        journal.append(request.method(), LatencyRecordingFilter.endpointTemplate(path(request)),
+                response == null ? 0 : response.statusCode(),
+                (int) Math.max(requestBytes, 0),
+                response == null ? 0 : RequestJournal.utf8Length(response.body()),
+                elapsedNanos);
+    }
+
+    private String path(HttpRequest request) {
+        return request.uri().getRawPath().substring(basePath.length());
+    }
+
+    private HttpRequest.Builder newRequest(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(requestTimeout)
+                .header("Content-Type", JSON)
+                .header("Accept", JSON);
+    }
+
+    private static String bookingPath(int bookingId) {
+        return ApiEndpoints.BOOKING_BY_ID.replace("{id}", String.valueOf(bookingId));
+    }
+
+    private static String queryString(Map<String, String> queryParams) {
+        if (queryParams.isEmpty()) {
+            return "";
+        }
+        StringBuilder query = new StringBuilder("?");
+        queryParams.forEach((name, value) -> {
+            if (query.length() > 1) {
+                query.append('&');
+            }
+            query.append(URLEncoder.encode(name, StandardCharsets.UTF_8))
+                    .append('=')
+                    .append(URLEncoder.encode(value, StandardCharsets.UTF_8));
+        });
+        return query.toString();
+    }
+
+    private static HttpRequest.BodyPublisher jsonBody(ObjectMapper mapper, Object body) {
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(body));
+        } catch (JsonProcessingException e) {
+            throw new BookingApiException("Failed to serialize request body", e);
+        }
+    }
+
+    private static void expectStatus(HttpResponse<String> response, int expectedStatus, String message) {
+        if (response.statusCode() != expectedStatus) {
+            throw new BookingApiException(message, response.statusCode(), response.body());
+        }
+    }
+
+    private <T> T read(HttpResponse<String> response, Class<T> type) {
+        try {
+            return objectMapper.readValue(response.body(), type);
+        } catch (JsonProcessingException e) {
+            throw new BookingApiException("Failed to deserialize " + type.getSimpleName(), e);
+        }
+    }
+
+    private JsonNode readTree(HttpResponse<String> response) {
+        try {
+            return objectMapper.readTree(response.body());
+        } catch (JsonProcessingException e) {
+            throw new BookingApiException("Failed to parse response body", e);
+        }
+    }
+}
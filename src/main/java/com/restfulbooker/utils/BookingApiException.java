@@ -0,0 +1,30 @@
+package com.restfulbooker.utils;
+
+/**
+ * Exception raised by {@link BookingApiClient} when the API answers with an unexpected status or body
+ */
+public class BookingApiException extends RuntimeException {
+
+    private final int statusCode;
+    private final String responseBody;
+
+    public BookingApiException(String message, int statusCode, String responseBody) {
+        super(message + " (status " + statusCode + "): " + responseBody);
+        this.statusCode = statusCode;
+        this.responseBody = responseBody;
+    }
+
+    public BookingApiException(String message, Throwable cause) {
+        super(message, cause);
+        this.statusCode = -1;
+        this.responseBody = null;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public String getResponseBody() {
+        return responseBody;
+    }
+}
@@ -0,0 +1,201 @@
+package com.restfulbooker.utils;
+
+import com.restfulbooker.models.Booking;
+import com.restfulbooker.models.BookingResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bookings created ahead of time so tests that only need "some existing booking" do not
+ * pay for a POST /booking round trip first.
+ * <pre>
+ * try (BookingFixturePool.Lease lease = api.getBookingFixtures().lease(Access.EXCLUSIVE)) {
+ *     // update or delete lease.getBookingId()
+ * }
+ * </pre>
+ * {@link #fill()} creates the missing bookings concurrently in the background, on a few
+ * threads of the pool's own so they never hold up the {@link ConcurrentRunner} workers of
+ * concurrent tests. An
+ * {@link Access#EXCLUSIVE} lease hands the booking to a single test that may change or
+ * delete it; the booking is never returned and the pool tops itself up in its place.
+ * {@link Access#SHARED} leases hand the same booking to any number of read-only tests; it
+ * goes back to the pool once the last reader releases it and must not be modified.
+ * <p>
+ * When no booking is ready, a lease waits for one that is being created, and otherwise
+ * creates one itself, so leasing is never slower than creating the booking in the test.
+ */
+public class BookingFixturePool {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookingFixturePool.class);
+    private static final long PENDING_POLL_MILLIS = 50;
+    private static final int FILL_THREADS = 4;
+
+    public enum Access {
+        SHARED, EXCLUSIVE
+    }
+
+    private final ApiClientContext context;
+    private final int size;
+    private final LinkedBlockingDeque<BookingResponse> idle = new LinkedBlockingDeque<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final ExecutorService filler;
+
+    private BookingResponse shared;
+    private int readers;
+
+    /**
+     * @param size number of bookings to keep ready, 0 to create one per lease
+     */
+    public BookingFixturePool(ApiClientContext context, int size) {
+        this.context = context;
+        this.size = size;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.filler = Executors.newFixedThreadPool(FILL_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "booking-fixture-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Start creating the bookings missing from the pool; returns immediately
+     */
+    public synchronized void fill() {
+        int missing = size - idle.size() - pending.get();
+        for (int i = 0; i < missing; i++) {
+            pending.incrementAndGet();
+            filler.submit(ExchangeLog.detached(() -> {
+                try {
+                    idle.addLast(create());
+                } catch (RuntimeException | AssertionError e) {
+                    logger.warn("Failed to create fixture booking: {}", e.getMessage());
+                } finally {
+                    pending.decrementAndGet();
+                }
+                return null;
+            }));
+        }
+    }
+
+    public Lease lease(Access access) {
+        if (access == Access.EXCLUSIVE) {
+            return new Lease(this, take(), access);
+        }
+
+        synchronized (this) {
+            if (shared != null) {
+                readers++;
+                return new Lease(this, shared, access);
+            }
+        }
+        BookingResponse booking = take();
+        synchronized (this) {
+            if (shared == null) {
+                shared = booking;
+            } else {
+                // Another reader got there first; keep the extra booking for later
+                idle.addFirst(booking);
+            }
+            readers++;
+            return new Lease(this, shared, access);
+        }
+    }
+
+    /**
+     * Release the lease; an exclusive booking is dropped since the test may have changed it
+     */
+    public void release(Lease lease) {
+        if (lease.released) {
+            return;
+        }
+        lease.released = true;
+        if (lease.access == Access.SHARED) {
+            synchronized (this) {
+                if (--readers == 0) {
+                    idle.addFirst(shared);
+                    shared = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Share of leases served from a prepared booking
+     */
+    public double getHitRate() {
+        long total = hits.get() + misses.get();
+        return total == 0 ? 0 : (double) hits.get() / total;
+    }
+
+    private BookingResponse take() {
+        BookingResponse booking = idle.pollFirst();
+        try {
+            while (booking == null && pending.get() > 0) {
+                booking = idle.pollFirst(PENDING_POLL_MILLIS, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a fixture booking", e);
+        }
+
+        fill();
+        if (booking != null) {
+            hits.incrementAndGet();
+            return booking;
+        }
+        misses.incrementAndGet();
+        return create();
+    }
+
+    private BookingResponse create() {
+        return context.getBaseRequestSpec()
+                .body(TestDataGenerator.generateRandomBooking())
+                .when()
+                .post(ApiEndpoints.BOOKING)
+                .then()
+                .statusCode(200)
+                .extract()
+                .as(BookingResponse.class);
+    }
+
+    /**
+     * A booking handed out by the pool; closing the lease releases it
+     */
+    public static final class Lease implements AutoCloseable {
+        private final BookingFixturePool pool;
+        private final BookingResponse booking;
+        private final Access access;
+        private boolean released;
+
+        private Lease(BookingFixturePool pool, BookingResponse booking, Access access) {
+            this.pool = pool;
+            this.booking = booking;
+            this.access = access;
+        }
+
+        public int getBookingId() {
+            return booking.getBookingId();
+        }
+
+        /**
+         * The booking as it was created
+         */
+        public Booking getBooking() {
+            return booking.getBooking();
+        }
+
+        @Override
+        public void close() {
+            pool.release(this);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.restfulbooker.utils;
+
+import com.restfulbooker.config.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Circuit breaker for connection-level failures against the API.
+ * <p>
+ * After {@code failureThreshold} consecutive connect failures the circuit opens and
+ * every call fails immediately for {@code openDurationMillis}. The first call after
+ * that window is let through as a trial; success closes the circuit, another connect
+ * failure opens it again. Every permitted call must end with {@link #recordSuccess()},
+ * {@link #recordFailure(Throwable)} or {@link #releaseTrial()}.
+ */
+public class CircuitBreaker {
+
+    private static final Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    private final int failureThreshold;
+    private final long openDurationMillis;
+
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean open;
+    private boolean trialInFlight;
+    private Throwable lastFailure;
+
+    public CircuitBreaker(int failureThreshold, long openDurationMillis) {
+        this.failureThreshold = failureThreshold;
+        this.openDurationMillis = openDurationMillis;
+    }
+
+    public static CircuitBreaker fromConfiguration(Configuration config) {
+        return new CircuitBreaker(config.getCircuitBreakerFailureThreshold(),
+                config.getCircuitBreakerOpenDuration());
+    }
+
+    /**
+     * Check whether a call may proceed
+     *
+     * @throws CircuitBreakerOpenException when the circuit is open
+     */
+    public synchronized void acquirePermission() {
+        if (!open) {
+            return;
+        }
+        if (!trialInFlight && System.currentTimeMillis() - openedAt >= openDurationMillis) {
+            trialInFlight = true;
+            logger.info("Circuit breaker half-open, sending a trial request");
+            return;
+        }
+        throw new CircuitBreakerOpenException(consecutiveFailures, lastFailure);
+    }
+
+    public synchronized void recordSuccess() {
+        if (open) {
+            logger.info("Circuit breaker closed, API is reachable again");
+        }
+        open = false;
+        trialInFlight = false;
+        consecutiveFailures = 0;
+        lastFailure = null;
+    }
+
+    public synchronized void recordFailure(Throwable failure) {
+        consecutiveFailures++;
+        lastFailure = failure;
+        trialInFlight = false;
+        if (open || consecutiveFailures >= failureThreshold) {
+            if (!open) {
+                logger.error("Circuit breaker opened after {} consecutive connection failures", consecutiveFailures);
+            }
+            open = true;
+            openedAt = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * End a call that failed for a reason other than reaching the API, e.g. a read
+     * timeout. The circuit stays as it is, but a trial is no longer in flight, so the
+     * next call becomes the trial.
+     */
+    public synchronized void releaseTrial() {
+        trialInFlight = false;
+    }
+
+    public synchronized boolean isOpen() {
+        return open;
+    }
+
+    /**
+     * Close the circuit and forget previous failures
+     */
+    public synchronized void reset() {
+        open = false;
+        trialInFlight = false;
+        consecutiveFailures = 0;
+        lastFailure = null;
+    }
+}
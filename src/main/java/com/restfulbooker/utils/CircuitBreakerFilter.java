@@ -0,0 +1,68 @@
+package com.restfulbooker.utils;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.apache.http.conn.ConnectTimeoutException;
+
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.UnknownHostException;
+
+/**
+ * Filter that guards every request with a {@link CircuitBreaker}. Only failures to
+ * reach the API count against the breaker; HTTP error statuses are normal responses.
+ */
+public class CircuitBreakerFilter implements OrderedFilter {
+
+    private final CircuitBreaker circuitBreaker;
+
+    public CircuitBreakerFilter(CircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        circuitBreaker.acquirePermission();
+
+        boolean recorded = false;
+        try {
+            Response response = ctx.next(requestSpec, responseSpec);
+            circuitBreaker.recordSuccess();
+            recorded = true;
+            return response;
+        } catch (Throwable t) {
+            if (isConnectFailure(t)) {
+                circuitBreaker.recordFailure(t);
+                recorded = true;
+            }
+            throw t;
+        } finally {
+            if (!recorded) {
+                // Neither outcome says whether the API is reachable; a half-open trial must still end
+                circuitBreaker.releaseTrial();
+            }
+        }
+    }
+
+    private static boolean isConnectFailure(Throwable t) {
+        for (Throwable cause = t; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectException
+                    || cause instanceof ConnectTimeoutException
+                    || cause instanceof UnknownHostException
+                    || cause instanceof NoRouteToHostException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int getOrder() {
+        return HIGHEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,12 @@
+package com.restfulbooker.utils;
+
+/**
+ * Exception raised instead of sending a request while the {@link CircuitBreaker} is open
+ */
+public class CircuitBreakerOpenException extends RuntimeException {
+
+    public CircuitBreakerOpenException(int consecutiveFailures, Throwable lastFailure) {
+        super("Circuit breaker is open after " + consecutiveFailures
+                + " consecutive connection failures, failing fast", lastFailure);
+    }
+}
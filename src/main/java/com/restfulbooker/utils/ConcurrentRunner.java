@@ -0,0 +1,113 @@
+package com.restfulbooker.utils;
+
+import com.restfulbooker.config.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the independent requests of a multi-request scenario concurrently.
+ * <p>
+ * With {@code execution.mode=virtual} on Java 21+ every task gets its own virtual thread,
+ * so thousands of blocking Rest Assured calls do not need thousands of OS threads.
+ * Otherwise, including on Java 17, tasks run on a bounded pool of
+ * {@code execution.platform.threads} daemon platform threads.
+ */
+public final class ConcurrentRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConcurrentRunner.class);
+    private static final Configuration config = Configuration.getInstance();
+
+    private static final ExecutorService virtualExecutor = "virtual".equalsIgnoreCase(config.getExecutionMode())
+            ? createVirtualThreadExecutor()
+            : null;
+    private static final ExecutorService executor = virtualExecutor != null
+            ? virtualExecutor
+            : createPlatformExecutor(config.getPlatformThreadCount());
+
+    private ConcurrentRunner() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Get the executor selected by {@code execution.mode}
+     */
+    public static ExecutorService getExecutor() {
+        return executor;
+    }
+
+    public static boolean isUsingVirtualThreads() {
+        return executor == virtualExecutor;
+    }
+
+    /**
+     * Run all tasks concurrently and return their results in task order. The first failure
+     * is rethrown once every task has finished, so assertion errors surface unchanged.
+     */
+    public static <T> List<T> invokeAll(List<? extends Callable<T>> tasks) {
+        List<Future<T>> futures = new ArrayList<>(tasks.size());
+        for (Callable<T> task : tasks) {
+            futures.add(executor.submit(ExchangeLog.propagate(task)));
+        }
+
+        List<T> results = new ArrayList<>(futures.size());
+        Throwable failure = null;
+        for (Future<T> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = e.getCause();
+                }
+                results.add(null);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(pending -> pending.cancel(true));
+                throw new IllegalStateException("Interrupted while waiting for concurrent tasks", e);
+            }
+        }
+
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        if (failure != null) {
+            throw new IllegalStateException("Concurrent task failed", failure);
+        }
+        return results;
+    }
+
+    /**
+     * Look up {@code Executors.newVirtualThreadPerTaskExecutor()} reflectively so the
+     * project still compiles and runs on Java 17
+     */
+    private static ExecutorService createVirtualThreadExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            logger.warn("Virtual threads require Java 21+, falling back to a platform thread pool");
+            return null;
+        }
+    }
+
+    private static ExecutorService createPlatformExecutor(int threads) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "scenario-worker-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
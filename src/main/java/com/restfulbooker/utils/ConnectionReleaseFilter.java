@@ -0,0 +1,31 @@
+package com.restfulbooker.utils;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Filter that buffers every response body so the underlying pooled connection
+ * is returned to the pool even when a test never reads the body.
+ */
+public class ConnectionReleaseFilter implements OrderedFilter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Response response = ctx.next(requestSpec, responseSpec);
+        if (response != null) {
+            // Reading the body consumes the entity, which releases the connection
+            response.asByteArray();
+        }
+        return response;
+    }
+
+    @Override
+    public int getOrder() {
+        return HIGHEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,68 @@
+package com.restfulbooker.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.io.IOException;
+
+/**
+ * Tracks bookings in a {@link CreatedBookingRegistry}: the {@code bookingid} of every
+ * successful POST /booking is registered and bookings deleted through a request are
+ * unregistered again
+ */
+public class CreatedBookingFilter implements Filter {
+
+    private final CreatedBookingRegistry registry;
+    private final ObjectMapper objectMapper;
+
+    public CreatedBookingFilter(CreatedBookingRegistry registry, ObjectMapper objectMapper) {
+        this.registry = registry;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Response response = ctx.next(requestSpec, responseSpec);
+        if (response == null || response.getStatusCode() >= 300) {
+            return response;
+        }
+
+        String method = requestSpec.getMethod();
+        String endpoint = LatencyRecordingFilter.endpointTemplate(requestSpec.getUserDefinedPath());
+        if ("POST".equals(method) && ApiEndpoints.BOOKING.equals(endpoint)) {
+            Integer bookingId = bookingId(response);
+            if (bookingId != null) {
+                registry.register(bookingId);
+            }
+        } else if ("DELETE".equals(method) && ApiEndpoints.BOOKING_BY_ID.equals(endpoint)) {
+            Object id = requestSpec.getPathParams().get("id");
+            if (id != null && id.toString().matches("\\d+")) {
+                registry.unregister(Integer.parseInt(id.toString()));
+            }
+        }
+        return response;
+    }
+
+    /**
+     * Read the id with Jackson rather than JsonPath, which is much more expensive to parse
+     */
+    private Integer bookingId(Response response) {
+        String contentType = response.getContentType();
+        if (contentType == null || !contentType.contains("json")) {
+            return null;
+        }
+        try {
+            JsonNode id = objectMapper.readTree(response.asByteArray()).path("bookingid");
+            return id.isInt() ? id.asInt() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.restfulbooker.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Ids of the bookings a run has created on one environment and not deleted yet, fed by
+ * {@link CreatedBookingFilter}. {@link #deleteAll()} removes them with authenticated
+ * DELETEs, a bounded number at a time, so a shared environment does not keep growing
+ * from one nightly run to the next. Bookings still registered when the JVM exits, e.g.
+ * after an aborted run, are deleted from a shutdown hook.
+ */
+public class CreatedBookingRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(CreatedBookingRegistry.class);
+
+    private final ApiClientContext context;
+    private final int concurrency;
+    private final Set<Integer> bookingIds = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean shutdownHookInstalled = new AtomicBoolean();
+
+    public CreatedBookingRegistry(ApiClientContext context, int concurrency) {
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("Cleanup concurrency must be positive: " + concurrency);
+        }
+        this.context = context;
+        this.concurrency = concurrency;
+    }
+
+    public void register(int bookingId) {
+        bookingIds.add(bookingId);
+        if (shutdownHookInstalled.compareAndSet(false, true)) {
+            Runtime.getRuntime().addShutdownHook(new Thread(this::deleteAll, "booking-cleanup"));
+        }
+    }
+
+    public void unregister(int bookingId) {
+        bookingIds.remove(bookingId);
+    }
+
+    public int size() {
+        return bookingIds.size();
+    }
+
+    /**
+     * Delete every registered booking. A booking that is already gone counts as deleted.
+     *
+     * @return the number of deletions that failed
+     */
+    public int deleteAll() {
+        List<Integer> targets = new ArrayList<>(bookingIds);
+        bookingIds.removeAll(targets);
+        if (targets.isEmpty()) {
+            return 0;
+        }
+
+        String token;
+        try {
+            token = context.getAuthTokenManager().getToken();
+        } catch (RuntimeException | AssertionError e) {
+            logger.warn("Could not authenticate to delete {} bookings created on {}: {}",
+                    targets.size(), context.getBaseUrl(), e.getMessage());
+            return targets.size();
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(concurrency, targets.size()), runnable -> {
+            Thread thread = new Thread(runnable, "booking-cleanup-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        List<Future<Integer>> deletions = new ArrayList<>(targets.size());
+        for (Integer bookingId : targets) {
+            deletions.add(executor.submit(ExchangeLog.detached(() -> context.getAuthenticatedRequestSpec(token)
+                    .pathParam("id", bookingId)
+                    .when()
+                    .delete(ApiEndpoints.BOOKING_BY_ID)
+                    .getStatusCode())));
+        }
+
+        int deleted = 0;
+        try {
+            for (Future<Integer> deletion : deletions) {
+                try {
+                    int status = deletion.get();
+                    if (status < 300 || status == 404) {
+                        deleted++;
+                    }
+                } catch (ExecutionException e) {
+                    logger.debug("Booking deletion failed", e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        int failed = targets.size() - deleted;
+        if (failed > 0) {
+            logger.warn("Deleted {} of {} bookings created on {}, {} deletions failed",
+                    deleted, targets.size(), context.getBaseUrl(), failed);
+        } else {
+            logger.info("Deleted all {} bookings created on {}", targets.size(), context.getBaseUrl());
+        }
+        return failed;
+    }
+}
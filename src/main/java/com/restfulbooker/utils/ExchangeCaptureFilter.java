@@ -0,0 +1,49 @@
+package com.restfulbooker.utils;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replacement for Rest Assured's request/response logging filters. Each exchange is
+ * buffered in the thread's {@link ExchangeLog} and only logged or attached to the report
+ * once the test outcome is known; exchanges slower than the threshold are logged right away.
+ */
+public class ExchangeCaptureFilter implements Filter {
+
+    private static final Logger logger = LoggerFactory.getLogger("com.restfulbooker.exchanges");
+
+    private final long slowThresholdNanos;
+
+    /**
+     * @param slowThresholdMillis log exchanges at least this slow immediately, or
+     *                            {@link Long#MAX_VALUE} to only buffer
+     */
+    public ExchangeCaptureFilter(long slowThresholdMillis) {
+        this.slowThresholdNanos = slowThresholdMillis == Long.MAX_VALUE
+                ? Long.MAX_VALUE
+                : TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis);
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        long start = System.nanoTime();
+        Response response = ctx.next(requestSpec, responseSpec);
+        long elapsed = System.nanoTime() - start;
+        HttpExchange exchange = new HttpExchange(requestSpec, response, elapsed);
+
+        if (elapsed >= slowThresholdNanos) {
+            logger.warn("Slow exchange:{}{}", System.lineSeparator(), exchange.format());
+        }
+        ExchangeLog.record(exchange);
+        return response;
+    }
+}
@@ -0,0 +1,132 @@
+package com.restfulbooker.utils;
+
+import com.restfulbooker.config.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * Bounded ring of recent {@link HttpExchange}s, kept per thread and inherited by the
+ * threads it starts (such as the thread TestNG runs a timed test on). Exchanges are
+ * stored unformatted, so a passing test never pays for formatting or writing its log.
+ */
+public final class ExchangeLog {
+
+    private static final Logger logger = LoggerFactory.getLogger("com.restfulbooker.exchanges");
+    private static final int capacity = Configuration.getInstance().getLoggingBufferSize();
+
+    private static final InheritableThreadLocal<Ring> currentRing = new InheritableThreadLocal<>() {
+        @Override
+        protected Ring initialValue() {
+            return new Ring(capacity);
+        }
+    };
+
+    private ExchangeLog() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Start a fresh ring on the current thread; threads started from here on share it
+     */
+    public static void startCapture() {
+        currentRing.set(new Ring(capacity));
+    }
+
+    static void record(HttpExchange exchange) {
+        currentRing.get().add(exchange);
+    }
+
+    /**
+     * Remove and return the buffered exchanges of the current ring, oldest first
+     */
+    public static List<HttpExchange> drain() {
+        List<HttpExchange> exchanges = new ArrayList<>();
+        int dropped = currentRing.get().drainTo(exchanges);
+        if (dropped > 0) {
+            logger.debug("{} earlier exchanges were dropped from the buffer", dropped);
+        }
+        return exchanges;
+    }
+
+    /**
+     * Log {@code exchanges} after {@code header} as a single event
+     */
+    public static void log(String header, List<HttpExchange> exchanges) {
+        if (exchanges.isEmpty()) {
+            return;
+        }
+        StringBuilder message = new StringBuilder(header);
+        for (HttpExchange exchange : exchanges) {
+            message.append(System.lineSeparator()).append(exchange.format());
+        }
+        logger.warn(message.toString());
+    }
+
+    /**
+     * Wrap {@code task} so it records into the caller's ring when run on a pooled thread
+     */
+    public static <T> Callable<T> propagate(Callable<T> task) {
+        Ring ring = currentRing.get();
+        return () -> {
+            Ring previous = currentRing.get();
+            currentRing.set(ring);
+            try {
+                return task.call();
+            } finally {
+                currentRing.set(previous);
+            }
+        };
+    }
+
+    /**
+     * Wrap {@code task} so its exchanges are not recorded into any test's ring, for
+     * background work that no single test is responsible for
+     */
+    public static <T> Callable<T> detached(Callable<T> task) {
+        return () -> {
+            Ring previous = currentRing.get();
+            currentRing.set(new Ring(0));
+            try {
+                return task.call();
+            } finally {
+                currentRing.set(previous);
+            }
+        };
+    }
+
+    private static final class Ring {
+        private final int capacity;
+        private final Deque<HttpExchange> entries;
+        private int dropped;
+
+        private Ring(int capacity) {
+            this.capacity = capacity;
+            this.entries = new ArrayDeque<>(Math.max(capacity, 0));
+        }
+
+        private synchronized void add(HttpExchange exchange) {
+            if (capacity <= 0) {
+                return;
+            }
+            if (entries.size() == capacity) {
+                entries.removeFirst();
+                dropped++;
+            }
+            entries.addLast(exchange);
+        }
+
+        private synchronized int drainTo(List<HttpExchange> target) {
+            target.addAll(entries);
+            entries.clear();
+            int result = dropped;
+            dropped = 0;
+            return result;
+        }
+    }
+}
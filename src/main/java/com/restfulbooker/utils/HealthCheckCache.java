@@ -0,0 +1,63 @@
+package com.restfulbooker.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Memoizes the outcome of the API health check for a freshness window so test classes
+ * share one ping instead of each sending their own. A failed check is cached as well,
+ * so classes after an outage fail immediately with the original error.
+ */
+public class HealthCheckCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(HealthCheckCache.class);
+
+    private final long freshnessMillis;
+
+    private long checkedAt;
+    private boolean checked;
+    private RuntimeException failure;
+    private Error error;
+
+    public HealthCheckCache(long freshnessMillis) {
+        this.freshnessMillis = freshnessMillis;
+    }
+
+    /**
+     * Run the health check unless a result younger than the freshness window exists.
+     * A cached failure is rethrown.
+     */
+    public synchronized void check(Runnable healthCheck) {
+        if (!checked || System.currentTimeMillis() - checkedAt >= freshnessMillis) {
+            failure = null;
+            error = null;
+            try {
+                healthCheck.run();
+            } catch (RuntimeException e) {
+                failure = e;
+            } catch (Error e) {
+                error = e;
+            }
+            checked = true;
+            checkedAt = System.currentTimeMillis();
+        } else {
+            logger.info("Reusing health check result from {} ms ago", System.currentTimeMillis() - checkedAt);
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    /**
+     * Forget the cached result so the next check pings the API again
+     */
+    public synchronized void reset() {
+        checked = false;
+        failure = null;
+        error = null;
+    }
+}
@@ -0,0 +1,102 @@
+package com.restfulbooker.utils;
+
+import com.restfulbooker.config.Configuration;
+import org.apache.http.client.HttpClient;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pooled, keep-alive HTTP connection manager shared by Rest Assured requests.
+ * Rest Assured only accepts {@code AbstractHttpClient} instances, so the pool is built
+ * on the HttpClient 4.x {@link PoolingClientConnectionManager}.
+ */
+@SuppressWarnings("deprecation")
+public class HttpConnectionPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(HttpConnectionPool.class);
+
+    private final PoolingClientConnectionManager connectionManager;
+    private final ConnectionKeepAliveStrategy keepAliveStrategy;
+    private final ScheduledExecutorService evictor;
+
+    public HttpConnectionPool(int maxTotal, int maxPerRoute, long idleTimeoutMillis, long keepAliveMillis) {
+        this.connectionManager = new PoolingClientConnectionManager();
+        this.connectionManager.setMaxTotal(maxTotal);
+        this.connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+        this.keepAliveStrategy = cappedKeepAliveStrategy(keepAliveMillis);
+
+        this.evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "http-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long evictionInterval = Math.max(1000L, idleTimeoutMillis / 2);
+        this.evictor.scheduleWithFixedDelay(() -> evictIdleConnections(idleTimeoutMillis),
+                evictionInterval, evictionInterval, TimeUnit.MILLISECONDS);
+
+        logger.debug("HTTP connection pool created - maxTotal: {}, maxPerRoute: {}", maxTotal, maxPerRoute);
+    }
+
+    /**
+     * Create a connection pool sized from the configuration properties
+     */
+    public static HttpConnectionPool fromConfiguration(Configuration config) {
+        return new HttpConnectionPool(
+                config.getMaxTotalConnections(),
+                config.getMaxConnectionsPerRoute(),
+                config.getIdleConnectionTimeout(),
+                config.getKeepAliveDuration());
+    }
+
+    /**
+     * Create a new HTTP client backed by this pool. Intended to be used as the
+     * Rest Assured {@code HttpClientFactory} together with {@code reuseHttpClientInstance()}.
+     */
+    public HttpClient createHttpClient() {
+        DefaultHttpClient httpClient = new DefaultHttpClient(connectionManager);
+        httpClient.setKeepAliveStrategy(keepAliveStrategy);
+        return httpClient;
+    }
+
+    /**
+     * Close expired connections and connections idle for longer than the given timeout
+     */
+    public void evictIdleConnections(long idleTimeoutMillis) {
+        connectionManager.closeExpiredConnections();
+        connectionManager.closeIdleConnections(idleTimeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public int getLeasedConnections() {
+        return connectionManager.getTotalStats().getLeased();
+    }
+
+    public int getAvailableConnections() {
+        return connectionManager.getTotalStats().getAvailable();
+    }
+
+    /**
+     * Stop the eviction task and close all pooled connections
+     */
+    public void shutdown() {
+        evictor.shutdownNow();
+        connectionManager.shutdown();
+    }
+
+    /**
+     * Honour the server's Keep-Alive header but never keep a connection longer than the configured duration
+     */
+    private static ConnectionKeepAliveStrategy cappedKeepAliveStrategy(long keepAliveMillis) {
+        return (response, context) -> {
+            long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return serverKeepAlive > 0 ? Math.min(serverKeepAlive, keepAliveMillis) : keepAliveMillis;
+        };
+    }
+}
@@ -0,0 +1,98 @@
+package com.restfulbooker.utils;
+
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A captured request/response pair. Only references are kept; the text form is built
+ * when the exchange is actually logged or attached.
+ */
+public final class HttpExchange {
+
+    private final FilterableRequestSpecification request;
+    private final Response response;
+    private final long elapsedNanos;
+
+    HttpExchange(FilterableRequestSpecification request, Response response, long elapsedNanos) {
+        this.request = request;
+        this.response = response;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+    }
+
+    /**
+     * Short description such as {@code GET /booking/{id} -> 200 (12 ms)}
+     */
+    public String getTitle() {
+        String status = response == null ? "no response" : String.valueOf(response.getStatusCode());
+        return request.getMethod() + " " + LatencyRecordingFilter.endpointTemplate(request.getUserDefinedPath())
+                + " -> " + status + " (" + getElapsedMillis() + " ms)";
+    }
+
+    public String format() {
+        return format(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Request and response with headers, cutting each body after {@code maxBodyChars}
+     * characters and marking how much was left out
+     */
+    public String format(int maxBodyChars) {
+        String newline = System.lineSeparator();
+        StringBuilder out = new StringBuilder()
+                .append("> ").append(request.getMethod()).append(' ').append(request.getURI()).append(newline);
+        appendHeaders(out, "> ", request.getHeaders());
+        String requestBody = requestBody();
+        if (requestBody != null) {
+            out.append(truncate(requestBody, maxBodyChars)).append(newline);
+        }
+
+        if (response == null) {
+            return out.append("< (no response)").toString();
+        }
+        out.append("< ").append(response.getStatusLine())
+                .append(" (").append(getElapsedMillis()).append(" ms)").append(newline);
+        appendHeaders(out, "< ", response.getHeaders());
+        return out.append(truncate(response.asString(), maxBodyChars)).toString();
+    }
+
+    /**
+     * Whether {@link #format(int)} with this limit would cut a body
+     */
+    public boolean exceeds(int maxBodyChars) {
+        String requestBody = requestBody();
+        return (requestBody != null && requestBody.length() > maxBodyChars)
+                || (response != null && response.asString().length() > maxBodyChars);
+    }
+
+    private String requestBody() {
+        Object body = request.getBody();
+        if (body == null) {
+            return null;
+        }
+        return body instanceof byte[] ? new String((byte[]) body, StandardCharsets.UTF_8) : body.toString();
+    }
+
+    private static String truncate(String body, int maxChars) {
+        if (body.length() <= maxChars) {
+            return body;
+        }
+        return body.substring(0, maxChars) + System.lineSeparator()
+                + "... [truncated " + (body.length() - maxChars) + " of " + body.length() + " characters]";
+    }
+
+    private static void appendHeaders(StringBuilder out, String prefix, Headers headers) {
+        for (Header header : headers) {
+            out.append(prefix).append(header.getName()).append(": ").append(header.getValue())
+                    .append(System.lineSeparator());
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.restfulbooker.utils;
+
+import com.restfulbooker.jfr.HttpExchangeEvent;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Filter that emits a {@link HttpExchangeEvent} for every request. When no flight
+ * recording is running the event is disabled and the request passes straight through.
+ * <p>
+ * One of the per-attempt filters of {@link RetryFilter}, so each event covers one
+ * attempt of a retried request.
+ */
+public class HttpExchangeEventFilter implements Filter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        HttpExchangeEvent event = new HttpExchangeEvent();
+        if (!event.isEnabled()) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        event.begin();
+        Response response = ctx.next(requestSpec, responseSpec);
+        event.end();
+        if (event.shouldCommit()) {
+            event.method = requestSpec.getMethod();
+            event.endpoint = LatencyRecordingFilter.endpointTemplate(requestSpec.getUserDefinedPath());
+            event.requestBytes = bodySize(requestSpec.getBody());
+            if (response != null) {
+                event.status = response.getStatusCode();
+                event.responseBytes = response.asByteArray().length;
+            }
+            event.commit();
+        }
+        return response;
+    }
+
+    private static long bodySize(Object body) {
+        if (body instanceof byte[]) {
+            return ((byte[]) body).length;
+        }
+        if (body instanceof String) {
+            return ((String) body).getBytes(StandardCharsets.UTF_8).length;
+        }
+        return 0;
+    }
+}
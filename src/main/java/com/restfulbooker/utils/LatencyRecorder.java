@@ -0,0 +1,104 @@
+package com.restfulbooker.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects request latencies per {@code METHOD endpoint-template} in HdrHistogram
+ * {@link ConcurrentHistogram}s, which record without locking.
+ */
+public class LatencyRecorder {
+
+    // Track latencies up to one hour in microseconds with 3 significant digits
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double[] PERCENTILES = {50, 90, 95, 99, 99.9};
+
+    private static final LatencyRecorder instance = new LatencyRecorder();
+
+    private final ConcurrentMap<String, Histogram> histograms = new ConcurrentHashMap<>();
+
+    public static LatencyRecorder getInstance() {
+        return instance;
+    }
+
+    public void record(String method, String endpoint, long elapsedNanos) {
+        long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), HIGHEST_TRACKABLE_MICROS);
+        histograms.computeIfAbsent(method + " " + endpoint,
+                key -> new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS))
+                .recordValue(micros);
+    }
+
+    /**
+     * Percentile summary in milliseconds per endpoint, sorted by endpoint
+     */
+    public Map<String, Map<String, Object>> summarize() {
+        Map<String, Map<String, Object>> summary = new TreeMap<>();
+        histograms.forEach((endpoint, histogram) -> {
+            Histogram snapshot = histogram.copy();
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("count", snapshot.getTotalCount());
+            stats.put("minMs", millis(snapshot.getMinValue()));
+            stats.put("meanMs", Math.round(snapshot.getMean()) / 1000.0);
+            for (double percentile : PERCENTILES) {
+                stats.put("p" + formatPercentile(percentile) + "Ms", millis(snapshot.getValueAtPercentile(percentile)));
+            }
+            stats.put("maxMs", millis(snapshot.getMaxValue()));
+            summary.put(endpoint, stats);
+        });
+        return summary;
+    }
+
+    public String toJson() {
+        try {
+            return RestAssuredHelper.getObjectMapper()
+                    .writerWithDefaultPrettyPrinter()
+                    .writeValueAsString(summarize());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize latency summary", e);
+        }
+    }
+
+    /**
+     * Write the JSON summary to {@code file}, creating parent directories
+     */
+    public String writeJson(Path file) {
+        String json = toJson();
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.write(file, json.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write latency summary to " + file, e);
+        }
+        return json;
+    }
+
+    public void reset() {
+        histograms.clear();
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static String formatPercentile(double percentile) {
+        return percentile == Math.rint(percentile)
+                ? String.valueOf((long) percentile)
+                : String.valueOf(percentile);
+    }
+}
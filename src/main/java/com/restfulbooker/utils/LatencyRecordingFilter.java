@@ -0,0 +1,104 @@
+package com.restfulbooker.utils;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Filter that times every request, including reading the response body, and records
+ * it in a {@link LatencyRecorder} under the HTTP method and the {@link ApiEndpoints}
+ * template (e.g. {@code /booking/{id}}, never the concrete id). The time is also
+ * added to the calling thread's {@link NetworkTimeTracker} total and, when journaling is
+ * enabled, appended to the {@link RequestJournal}.
+ * <p>
+ * One of the per-attempt filters of {@link RetryFilter}, so every attempt is timed on its
+ * own and neither logging nor retry backoff is measured.
+ */
+public class LatencyRecordingFilter implements Filter {
+
+    private static final String[] TEMPLATES = {
+            ApiEndpoints.PING, ApiEndpoints.AUTH, ApiEndpoints.BOOKING, ApiEndpoints.BOOKING_BY_ID};
+
+    private final LatencyRecorder recorder;
+    private final RequestJournal journal;
+
+    public LatencyRecordingFilter(LatencyRecorder recorder) {
+        this(recorder, null);
+    }
+
+    /**
+     * @param journal journal to append every exchange to, or {@code null} for none
+     */
+    public LatencyRecordingFilter(LatencyRecorder recorder, RequestJournal journal) {
+        this.recorder = recorder;
+        this.journal = journal;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        long start = System.nanoTime();
+        Response response = ctx.next(requestSpec, responseSpec);
+        if (response != null) {
+            byte[] body = response.asByteArray();
+            long elapsed = System.nanoTime() - start;
+            String endpoint = endpointTemplate(requestSpec.getUserDefinedPath());
+            recorder.record(requestSpec.getMethod(), endpoint, elapsed);
+            NetworkTimeTracker.record(elapsed);
+            if (journal != null) {
+                journal.append(requestSpec.getMethod(), endpoint, response.getStatusCode(),
+                        bodySize(requestSpec.getBody()), body.length, elapsed);
+            }
+        }
+        return response;
+    }
+
+    private static int bodySize(Object body) {
+        if (body instanceof byte[]) {
+            return ((byte[]) body).length;
+        }
+        if (body instanceof String) {
+            return RequestJournal.utf8Length((String) body);
+        }
+        return 0;
+    }
+
+    /**
+     * Map a request path to its endpoint template, so {@code /booking/42} and
+     * {@code /booking/{id}} are reported together
+     */
+    static String endpointTemplate(String path) {
+        String normalized = path;
+        int queryStart = normalized.indexOf('?');
+        if (queryStart >= 0) {
+            normalized = normalized.substring(0, queryStart);
+        }
+        if (normalized.length() > 1 && normalized.endsWith("/")) {
+            normalized = normalized.substring(0, normalized.length() - 1);
+        }
+
+        String[] segments = normalized.split("/", -1);
+        for (String template : TEMPLATES) {
+            if (matches(template.split("/", -1), segments)) {
+                return template;
+            }
+        }
+        return normalized;
+    }
+
+    private static boolean matches(String[] templateSegments, String[] segments) {
+        if (templateSegments.length != segments.length) {
+            return false;
+        }
+        for (int i = 0; i < segments.length; i++) {
+            boolean placeholder = templateSegments[i].startsWith("{") && templateSegments[i].endsWith("}");
+            if (!placeholder && !templateSegments[i].equals(segments[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,205 @@
+package com.restfulbooker.utils;
+
+import io.qameta.allure.Allure;
+import io.restassured.http.Method;
+import io.restassured.response.Response;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Percentile-based latency assertion for a single endpoint.
+ * <pre>
+ * LatencySlo.forEndpoint(ApiEndpoints.BOOKING_BY_ID)
+ *         .pathParam("id", bookingId)
+ *         .warmup(20)
+ *         .samples(500)
+ *         .p95Below(Duration.ofSeconds(2))
+ *         .p99Below(Duration.ofSeconds(5))
+ *         .verify();
+ * </pre>
+ * Samples are sent concurrently through the {@link ApiClientContext} (by default
+ * {@link ApiClientContext#getDefault()}); warmup samples are discarded. The full
+ * latency histogram is attached to the Allure report and any violated percentile or
+ * unexpected status fails with an {@link AssertionError}.
+ */
+public class LatencySlo {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final String endpoint;
+    private final Map<String, Object> pathParams = new LinkedHashMap<>();
+    private final Map<Double, Duration> thresholds = new LinkedHashMap<>();
+    private Method method = Method.GET;
+    private int expectedStatus = 200;
+    private int warmupSamples;
+    private int measuredSamples = 100;
+    private int concurrency = 8;
+    private ApiClientContext context = ApiClientContext.getDefault();
+
+    private LatencySlo(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public static LatencySlo forEndpoint(String endpoint) {
+        return new LatencySlo(endpoint);
+    }
+
+    public LatencySlo context(ApiClientContext context) {
+        this.context = context;
+        return this;
+    }
+
+    public LatencySlo method(Method method) {
+        this.method = method;
+        return this;
+    }
+
+    public LatencySlo pathParam(String name, Object value) {
+        pathParams.put(name, value);
+        return this;
+    }
+
+    public LatencySlo expectStatus(int expectedStatus) {
+        this.expectedStatus = expectedStatus;
+        return this;
+    }
+
+    public LatencySlo warmup(int warmupSamples) {
+        this.warmupSamples = warmupSamples;
+        return this;
+    }
+
+    public LatencySlo samples(int measuredSamples) {
+        if (measuredSamples <= 0) {
+            throw new IllegalArgumentException("At least one sample is required");
+        }
+        this.measuredSamples = measuredSamples;
+        return this;
+    }
+
+    public LatencySlo concurrency(int concurrency) {
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("Concurrency must be positive");
+        }
+        this.concurrency = concurrency;
+        return this;
+    }
+
+    public LatencySlo p50Below(Duration limit) {
+        return percentileBelow(50, limit);
+    }
+
+    public LatencySlo p95Below(Duration limit) {
+        return percentileBelow(95, limit);
+    }
+
+    public LatencySlo p99Below(Duration limit) {
+        return percentileBelow(99, limit);
+    }
+
+    public LatencySlo percentileBelow(double percentile, Duration limit) {
+        thresholds.put(percentile, limit);
+        return this;
+    }
+
+    /**
+     * Send the warmup and measured samples and check every threshold
+     *
+     * @return the histogram of measured latencies in microseconds
+     * @throws AssertionError when a threshold is exceeded or a sample had an unexpected status
+     */
+    public Histogram verify() {
+        String name = method + " " + endpoint;
+
+        run(warmupSamples, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS), new AtomicLong());
+
+        Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        AtomicLong unexpectedStatuses = new AtomicLong();
+        run(measuredSamples, histogram, unexpectedStatuses);
+
+        List<String> violations = new ArrayList<>();
+        thresholds.forEach((percentile, limit) -> {
+            long actualMicros = histogram.getValueAtPercentile(percentile);
+            if (actualMicros > TimeUnit.NANOSECONDS.toMicros(limit.toNanos())) {
+                violations.add(String.format("p%s was %.1f ms, limit %d ms",
+                        formatPercentile(percentile), actualMicros / 1000.0, limit.toMillis()));
+            }
+        });
+        if (unexpectedStatuses.get() > 0) {
+            violations.add(unexpectedStatuses.get() + " of " + measuredSamples
+                    + " samples did not return status " + expectedStatus);
+        }
+
+        Allure.addAttachment("Latency histogram " + name, "text/plain", describe(histogram, violations), ".txt");
+
+        if (!violations.isEmpty()) {
+            throw new AssertionError("Latency SLO violated for " + name + ": " + String.join("; ", violations));
+        }
+        return histogram;
+    }
+
+    private void run(int samples, Histogram histogram, AtomicLong unexpectedStatuses) {
+        if (samples == 0) {
+            return;
+        }
+        AtomicInteger remaining = new AtomicInteger(samples);
+        List<Callable<Void>> workers = new ArrayList<>();
+        for (int i = 0; i < Math.min(concurrency, samples); i++) {
+            workers.add(() -> {
+                while (remaining.getAndDecrement() > 0) {
+                    long start = System.nanoTime();
+                    Response response = send();
+                    long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+                    histogram.recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+                    if (response.getStatusCode() != expectedStatus) {
+                        unexpectedStatuses.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        ConcurrentRunner.invokeAll(workers);
+    }
+
+    private Response send() {
+        return context.getBaseRequestSpec()
+                .pathParams(pathParams)
+                .when()
+                .request(method, endpoint);
+    }
+
+    private String describe(Histogram histogram, List<String> violations) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (PrintStream out = new PrintStream(buffer, true, StandardCharsets.UTF_8)) {
+            out.printf("%s %s: %d samples (%d warmup discarded), concurrency %d%n",
+                    method, endpoint, histogram.getTotalCount(), warmupSamples, concurrency);
+            thresholds.forEach((percentile, limit) -> out.printf("p%s: %.1f ms (limit %d ms)%n",
+                    formatPercentile(percentile), histogram.getValueAtPercentile(percentile) / 1000.0, limit.toMillis()));
+            violations.forEach(violation -> out.println("VIOLATION: " + violation));
+            out.println();
+            out.println("Latency distribution (ms):");
+            histogram.outputPercentileDistribution(out, 1000.0);
+        }
+        return buffer.toString(StandardCharsets.UTF_8);
+    }
+
+    private static String formatPercentile(double percentile) {
+        return percentile == Math.rint(percentile)
+                ? String.valueOf((long) percentile)
+                : String.valueOf(percentile);
+    }
+}
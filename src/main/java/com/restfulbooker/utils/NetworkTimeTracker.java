@@ -0,0 +1,35 @@
+package com.restfulbooker.utils;
+
+/**
+ * Running total of time each thread has spent in HTTP exchanges, and of the exchanges
+ * themselves, fed by {@link LatencyRecordingFilter}. Callers take the difference of two
+ * readings on the same thread to get the network time or request count of a unit of work.
+ */
+public final class NetworkTimeTracker {
+
+    private static final ThreadLocal<long[]> totals = ThreadLocal.withInitial(() -> new long[2]);
+
+    private NetworkTimeTracker() {
+        // Utility class - prevent instantiation
+    }
+
+    static void record(long nanos) {
+        long[] threadTotals = totals.get();
+        threadTotals[0] += nanos;
+        threadTotals[1]++;
+    }
+
+    /**
+     * Total nanoseconds the current thread has spent waiting on requests
+     */
+    public static long currentThreadNanos() {
+        return totals.get()[0];
+    }
+
+    /**
+     * Number of requests the current thread has sent, counting every retry
+     */
+    public static long currentThreadRequests() {
+        return totals.get()[1];
+    }
+}
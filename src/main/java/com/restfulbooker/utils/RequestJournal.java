@@ -0,0 +1,194 @@
+package com.restfulbooker.utils;
+
+import com.restfulbooker.config.Configuration;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Append-only binary journal of HTTP exchanges in a memory-mapped file of fixed-size
+ * records. Writers claim a slot with a single atomic increment and fill it with absolute
+ * puts, so appending takes no lock and allocates nothing. {@code JournalReader}
+ * aggregates the file afterwards.
+ * <p>
+ * Layout: a {@value #HEADER_SIZE}-byte header (magic, version, record size, capacity,
+ * start time, record count) followed by {@value #RECORD_SIZE}-byte records of epoch
+ * millis, latency nanos, thread id, request bytes, response bytes, status, method id
+ * and endpoint id. Methods and endpoint templates are stored as indexes into
+ * {@link #METHODS} and {@link #ENDPOINTS}; 0 means anything else.
+ */
+public class RequestJournal implements AutoCloseable {
+
+    public static final int MAGIC = 0x524A4E4C; // "RJNL"
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 40;
+    public static final int RECORD_SIZE = 40;
+
+    public static final int HEADER_COUNT_OFFSET = 32;
+
+    public static final int EPOCH_MILLIS_OFFSET = 0;
+    public static final int LATENCY_OFFSET = 8;
+    public static final int THREAD_OFFSET = 16;
+    public static final int REQUEST_BYTES_OFFSET = 24;
+    public static final int RESPONSE_BYTES_OFFSET = 28;
+    public static final int STATUS_OFFSET = 32;
+    public static final int METHOD_OFFSET = 34;
+    public static final int ENDPOINT_OFFSET = 35;
+
+    public static final String[] METHODS = {"OTHER", "GET", "POST", "PUT", "PATCH", "DELETE", "HEAD", "OPTIONS"};
+    public static final String[] ENDPOINTS = {"OTHER", ApiEndpoints.PING, ApiEndpoints.AUTH, ApiEndpoints.BOOKING,
+            ApiEndpoints.BOOKING_BY_ID};
+
+    private static volatile RequestJournal instance;
+
+    private final Path file;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final long capacity;
+    private final AtomicLong nextSlot = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile boolean closed;
+
+    private RequestJournal(Path file, long capacity) throws IOException {
+        if (capacity <= 0 || HEADER_SIZE + capacity * RECORD_SIZE > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Journal capacity must be between 1 and "
+                    + (Integer.MAX_VALUE - HEADER_SIZE) / RECORD_SIZE + " records");
+        }
+        this.file = file;
+        this.capacity = capacity;
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        // Pages are only backed by disk once records reach them
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + capacity * RECORD_SIZE);
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putInt(8, RECORD_SIZE);
+        buffer.putInt(12, (int) capacity);
+        buffer.putLong(16, System.currentTimeMillis());
+    }
+
+    /**
+     * Create a journal at {@code file}, replacing any previous one
+     */
+    public static RequestJournal open(Path file, long capacity) {
+        try {
+            return new RequestJournal(file, capacity);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open request journal " + file, e);
+        }
+    }
+
+    /**
+     * The journal configured by {@code perf.journal.enabled}, opened on first use and
+     * closed at JVM exit, or {@code null} when journaling is disabled
+     */
+    public static RequestJournal getInstance() {
+        if (instance == null) {
+            synchronized (RequestJournal.class) {
+                Configuration config = Configuration.getInstance();
+                if (instance == null && config.isJournalEnabled()) {
+                    RequestJournal journal = open(Paths.get(config.getJournalPath()), config.getJournalCapacity());
+                    Runtime.getRuntime().addShutdownHook(new Thread(journal::close, "request-journal-close"));
+                    instance = journal;
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Append one exchange. Once the journal is full or closed further records are counted
+     * as dropped.
+     *
+     * @param endpoint the endpoint template, e.g. {@link ApiEndpoints#BOOKING_BY_ID}
+     */
+    public void append(String method, String endpoint, int status, int requestBytes, int responseBytes,
+                       long latencyNanos) {
+        long slot = nextSlot.getAndIncrement();
+        if (slot >= capacity || closed) {
+            dropped.incrementAndGet();
+            return;
+        }
+        int offset = (int) (HEADER_SIZE + slot * RECORD_SIZE);
+        buffer.putLong(offset + LATENCY_OFFSET, latencyNanos);
+        buffer.putLong(offset + THREAD_OFFSET, Thread.currentThread().getId());
+        buffer.putInt(offset + REQUEST_BYTES_OFFSET, requestBytes);
+        buffer.putInt(offset + RESPONSE_BYTES_OFFSET, responseBytes);
+        buffer.putShort(offset + STATUS_OFFSET, (short) status);
+        buffer.put(offset + METHOD_OFFSET, (byte) indexOf(METHODS, method));
+        buffer.put(offset + ENDPOINT_OFFSET, (byte) indexOf(ENDPOINTS, endpoint));
+        // A non-zero timestamp marks the record as complete
+        buffer.putLong(offset + EPOCH_MILLIS_OFFSET, System.currentTimeMillis());
+    }
+
+    public long size() {
+        return Math.min(nextSlot.get(), capacity);
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Store the record count in the header and flush the mapping to disk
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        buffer.putLong(HEADER_COUNT_OFFSET, size());
+        buffer.force();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close request journal " + file, e);
+        }
+    }
+
+    /**
+     * UTF-8 encoded length without encoding the string
+     */
+    public static int utf8Length(String text) {
+        int length = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < text.length()
+                    && Character.isLowSurrogate(text.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    private static int indexOf(String[] names, String name) {
+        for (int i = 1; i < names.length; i++) {
+            if (names[i] == name || names[i].equals(name)) {
+                return i;
+            }
+        }
+        return 0;
+    }
+}
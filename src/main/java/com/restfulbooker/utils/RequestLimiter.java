@@ -0,0 +1,93 @@
+package com.restfulbooker.utils;
+
+import com.restfulbooker.config.Configuration;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client-side admission control for one environment: a {@link TokenBucket} per
+ * {@link ApiEndpoints} template caps the request rate of each endpoint, then an
+ * {@link AdaptiveConcurrencyLimit} caps the requests in flight across all of them. The
+ * RestAssured filter chain ({@link RequestLimiterFilter}) and {@link BookingApiClient}
+ * share it, so parallel tests and load runs back off together when the backend starts
+ * to struggle and ramp up again while it keeps up.
+ */
+public class RequestLimiter {
+
+    private static final Set<Integer> OVERLOAD_STATUSES = Set.of(429, 502, 503, 504);
+
+    private final AdaptiveConcurrencyLimit concurrencyLimit;
+    private final double endpointRate;
+    private final int endpointBurst;
+    private final Map<String, TokenBucket> endpointBuckets = new ConcurrentHashMap<>();
+
+    /**
+     * @param endpointRate requests per second per endpoint, 0 for no rate limit
+     */
+    public RequestLimiter(AdaptiveConcurrencyLimit concurrencyLimit, double endpointRate, int endpointBurst) {
+        this.concurrencyLimit = concurrencyLimit;
+        this.endpointRate = endpointRate;
+        this.endpointBurst = endpointBurst;
+    }
+
+    public static RequestLimiter fromConfiguration(Configuration config) {
+        return new RequestLimiter(
+                new AdaptiveConcurrencyLimit(config.getLimiterInitialConcurrency(),
+                        config.getLimiterMinConcurrency(),
+                        config.getLimiterMaxConcurrency(),
+                        config.getLimiterBackoffRatio(),
+                        config.getLimiterLatencyTolerance()),
+                config.getLimiterEndpointRate(),
+                config.getLimiterEndpointBurst());
+    }
+
+    /**
+     * Wait for the endpoint's rate limit and a concurrency permit
+     *
+     * @param path request path, mapped to its endpoint template
+     */
+    public AdaptiveConcurrencyLimit.Permit acquire(String path) {
+        TokenBucket bucket = bucketFor(path);
+        if (bucket != null) {
+            bucket.acquire();
+        }
+        return concurrencyLimit.acquire();
+    }
+
+    /**
+     * Like {@link #acquire(String)} without blocking the caller
+     */
+    public CompletableFuture<AdaptiveConcurrencyLimit.Permit> acquireAsync(String path) {
+        TokenBucket bucket = bucketFor(path);
+        long waitNanos = bucket == null ? 0 : bucket.reserve();
+        if (waitNanos == 0) {
+            return concurrencyLimit.acquireAsync();
+        }
+        return CompletableFuture.runAsync(() -> { },
+                        CompletableFuture.delayedExecutor(waitNanos, TimeUnit.NANOSECONDS))
+                .thenCompose(ignored -> concurrencyLimit.acquireAsync());
+    }
+
+    /**
+     * Whether a response status means the backend is overloaded rather than the request wrong
+     */
+    public static boolean isOverloadStatus(int statusCode) {
+        return OVERLOAD_STATUSES.contains(statusCode);
+    }
+
+    public AdaptiveConcurrencyLimit getConcurrencyLimit() {
+        return concurrencyLimit;
+    }
+
+    private TokenBucket bucketFor(String path) {
+        if (endpointRate <= 0) {
+            return null;
+        }
+        return endpointBuckets.computeIfAbsent(LatencyRecordingFilter.endpointTemplate(path),
+                endpoint -> new TokenBucket(endpointRate, endpointBurst));
+    }
+}
@@ -0,0 +1,53 @@
+package com.restfulbooker.utils;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Filter that admits every request through a {@link RequestLimiter} and reports back
+ * whether it completed normally or hit an overload status or no response at all.
+ * <p>
+ * One of the per-attempt filters of {@link RetryFilter}, so every attempt takes its own
+ * permit and the backoff between attempts holds none. Requests sent while
+ * the calling thread already holds a permit pass straight through so a low limit cannot
+ * deadlock on itself.
+ */
+public class RequestLimiterFilter implements Filter {
+
+    private static final ThreadLocal<Boolean> holdingPermit = ThreadLocal.withInitial(() -> false);
+
+    private final RequestLimiter limiter;
+
+    public RequestLimiterFilter(RequestLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        if (holdingPermit.get()) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+
+        AdaptiveConcurrencyLimit.Permit permit = limiter.acquire(requestSpec.getUserDefinedPath());
+        holdingPermit.set(true);
+        try {
+            Response response = ctx.next(requestSpec, responseSpec);
+            if (response != null && RequestLimiter.isOverloadStatus(response.getStatusCode())) {
+                permit.onDropped();
+            } else {
+                permit.onSuccess();
+            }
+            return response;
+        } catch (Throwable t) {
+            permit.onDropped();
+            throw t;
+        } finally {
+            holdingPermit.set(false);
+        }
+    }
+}
@@ -1,98 +1,70 @@
 package com.restfulbooker.utils;
 
-import io.restassured.RestAssured;
-import io.restassured.config.ObjectMapperConfig;
-import io.restassured.config.RestAssuredConfig;
-import io.restassured.filter.log.RequestLoggingFilter;
-import io.restassured.filter.log.ResponseLoggingFilter;
-import io.restassured.mapper.ObjectMapperType;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
-import com.restfulbooker.config.Configuration;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-
-import static io.restassured.RestAssured.given;
 
 /**
- * Helper class for Rest Assured configuration and common operations
+ * Helper class for Rest Assured configuration and common operations.
+ * <p>
+ * Static shortcuts to {@link ApiClientContext#getDefault()}, the client context built
+ * from the configuration properties. Code that may run against another environment
+ * should take an {@link ApiClientContext} instead.
  */
 public class RestAssuredHelper {
     
-    private static final Configuration config = Configuration.getInstance();
+    /**
+     * Get the Jackson mapper used for all request and response bodies
+     */
+    public static ObjectMapper getObjectMapper() {
+        return ApiClientContext.getDefault().getObjectMapper();
+    }
     
-    static {
-        setupRestAssured();
+    /**
+     * Get the pooled connection manager backing all Rest Assured requests
+     */
+    public static HttpConnectionPool getConnectionPool() {
+        return ApiClientContext.getDefault().getConnectionPool();
     }
     
     /**
-     * Configure Rest Assured with default settings
+     * Get the circuit breaker that fails requests fast while the API is unreachable
      */
-    private static void setupRestAssured() {
-        RestAssured.baseURI = config.getBaseUrl();
-        RestAssured.enableLoggingOfRequestAndResponseIfValidationFails();
-        
-        // Configure Jackson ObjectMapper with JSR310 support
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-        
-        // Configure object mapper
-        RestAssured.config = RestAssuredConfig.config()
-                .objectMapperConfig(ObjectMapperConfig.objectMapperConfig()
-                        .defaultObjectMapperType(ObjectMapperType.JACKSON_2)
-                        .jackson2ObjectMapperFactory((cls, charset) -> objectMapper));
-        
-        // Add request timeouts with separate connection and socket timeouts
-        RestAssured.config = RestAssured.config().httpClient(
-                RestAssured.config().getHttpClientConfig()
-                        .setParam("http.connection.timeout", config.getConnectionTimeout())
-                        .setParam("http.socket.timeout", config.getSocketTimeout())
-                        .setParam("http.connection-manager.timeout", config.getRequestTimeout())
-        );
+    public static CircuitBreaker getCircuitBreaker() {
+        return ApiClientContext.getDefault().getCircuitBreaker();
     }
     
     /**
-     * Get base request specification with common headers
+     * Get base request specification with common headers.
+     * <p>
+     * The headers and filters are prebuilt once and attached as-is; merging a
+     * prebuilt {@code RequestSpecBuilder} spec through {@code spec()} copies the whole
+     * specification and allocates more than building it from scratch.
      */
     public static RequestSpecification getBaseRequestSpec() {
-        RequestSpecification requestSpec = given()
-                .contentType("application/json")
-                .accept("application/json");
-        
-        if (config.isLoggingEnabled()) {
-            requestSpec = requestSpec
-                    .filter(new RequestLoggingFilter())
-                    .filter(new ResponseLoggingFilter());
-        }
-        
-        return requestSpec;
+        return ApiClientContext.getDefault().getBaseRequestSpec();
     }
     
     /**
-     * Get request specification with authentication token
+     * Get request specification with authentication token. The token cookie is
+     * built once per token and kept in a bounded LRU cache. Tokens issued by
+     * {@link AuthTokenManager} are refreshed and the request retried on 403.
      */
     public static RequestSpecification getAuthenticatedRequestSpec(String token) {
-        return getBaseRequestSpec()
-                .cookie("token", token);
+        return ApiClientContext.getDefault().getAuthenticatedRequestSpec(token);
     }
     
     /**
      * Get request specification with basic auth
      */
     public static RequestSpecification getBasicAuthRequestSpec(String username, String password) {
-        return getBaseRequestSpec()
-                .auth().basic(username, password);
+        return ApiClientContext.getDefault().getBasicAuthRequestSpec(username, password);
     }
     
     /**
      * Perform health check on the API
      */
     public static Response performHealthCheck() {
-        return getBaseRequestSpec()
-                .when()
-                .get(ApiEndpoints.PING)
-                .then()
-                .extract()
-                .response();
+        return ApiClientContext.getDefault().performHealthCheck();
     }
 }
@@ -0,0 +1,63 @@
+package com.restfulbooker.utils;
+
+/**
+ * Caps retries at a fixed share of the attempts made, so that under parallel load
+ * retries cannot multiply the traffic on a backend that is already struggling. A small
+ * minimum lets the first few failures be retried before the ratio means anything.
+ */
+public class RetryBudget {
+
+    private final double ratio;
+    private final int minimum;
+
+    private long attempts;
+    private long retries;
+
+    /**
+     * @param ratio   retries allowed per attempt, e.g. 0.1 for at most 10% extra requests
+     * @param minimum retries allowed regardless of the ratio
+     */
+    public RetryBudget(double ratio, int minimum) {
+        if (ratio < 0 || minimum < 0) {
+            throw new IllegalArgumentException("Retry budget must not be negative: " + ratio + ", " + minimum);
+        }
+        this.ratio = ratio;
+        this.minimum = minimum;
+    }
+
+    public synchronized void recordAttempt() {
+        attempts++;
+    }
+
+    /**
+     * Take one retry from the budget
+     *
+     * @return false when the budget is spent and the failure should be returned as is
+     */
+    public synchronized boolean tryAcquire() {
+        return tryAcquire(1);
+    }
+
+    /**
+     * Take {@code count} retries from the budget at once, e.g. for rerunning a unit of
+     * work that sent that many requests
+     *
+     * @return false, taking none, when fewer than {@code count} are left
+     */
+    public synchronized boolean tryAcquire(long count) {
+        if (retries + count > minimum + (long) (ratio * attempts)) {
+            return false;
+        }
+        retries += count;
+        return true;
+    }
+
+    public synchronized long getRetries() {
+        return retries;
+    }
+
+    public synchronized void reset() {
+        attempts = 0;
+        retries = 0;
+    }
+}
@@ -0,0 +1,212 @@
+package com.restfulbooker.utils;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.internal.filter.SendRequestFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import io.restassured.specification.RequestSender;
+import org.apache.http.NoHttpResponseException;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Filter that retries idempotent requests (GET, HEAD, PUT, DELETE, OPTIONS) after
+ * connect errors, timeouts and 502/503/504 responses. Before retry {@code n} it sleeps
+ * a random time between zero and {@code min(max, base * 2^(n-1))} ("full jitter"), so
+ * parallel clients that failed together do not retry together. Every retry is taken
+ * from a {@link RetryBudget}; once that is spent the failure is returned as is.
+ * <p>
+ * A filter chain can only be walked once, so the filters that must see every attempt on
+ * its own (token refresh, admission, timing, recording) are handed to this filter and
+ * run by it around each send. The first send continues down the rest of the chain; every
+ * later one, whether a retry or an attempt filter calling {@code ctx.next} again, sends
+ * the request directly. Backoff sleeps happen outside those filters, so they never count
+ * as round-trip time or hold a concurrency permit.
+ */
+public class RetryFilter implements OrderedFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RetryFilter.class);
+
+    private static final Set<String> IDEMPOTENT_METHODS = Set.of("GET", "HEAD", "PUT", "DELETE", "OPTIONS");
+    private static final Set<Integer> RETRYABLE_STATUSES = Set.of(502, 503, 504);
+
+    private final int maxRetries;
+    private final long baseMillis;
+    private final long maxMillis;
+    private final RetryBudget budget;
+    private final List<Filter> attemptFilters;
+
+    public RetryFilter(int maxRetries, long baseMillis, long maxMillis, RetryBudget budget) {
+        this(maxRetries, baseMillis, maxMillis, budget, List.of());
+    }
+
+    /**
+     * @param attemptFilters filters to run around every attempt, outermost first
+     */
+    public RetryFilter(int maxRetries, long baseMillis, long maxMillis, RetryBudget budget,
+                       List<Filter> attemptFilters) {
+        this.maxRetries = maxRetries;
+        this.baseMillis = baseMillis;
+        this.maxMillis = maxMillis;
+        this.budget = budget;
+        this.attemptFilters = List.copyOf(attemptFilters);
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        budget.recordAttempt();
+        Exchange exchange = new Exchange(ctx);
+        if (maxRetries <= 0 || !IDEMPOTENT_METHODS.contains(requestSpec.getMethod())) {
+            return exchange.attempt(requestSpec, responseSpec);
+        }
+
+        int retries = 0;
+        while (true) {
+            try {
+                Response response = exchange.attempt(requestSpec, responseSpec);
+                if (response == null || !RETRYABLE_STATUSES.contains(response.getStatusCode())
+                        || retries >= maxRetries || !budget.tryAcquire()) {
+                    return response;
+                }
+                // Release the failed response's connection before sending again
+                response.asByteArray();
+                logger.debug("{} {} returned {}, retrying", requestSpec.getMethod(),
+                        requestSpec.getUserDefinedPath(), response.getStatusCode());
+            } catch (Throwable t) {
+                if (!isTransientFailure(t) || retries >= maxRetries || !budget.tryAcquire()) {
+                    throw t;
+                }
+                logger.debug("{} {} failed with {}, retrying", requestSpec.getMethod(),
+                        requestSpec.getUserDefinedPath(), t.toString());
+            }
+            retries++;
+            backOff(retries);
+        }
+    }
+
+    /**
+     * Whether {@code t} is a connect error or timeout that a later attempt may not hit
+     */
+    public static boolean isTransientFailure(Throwable t) {
+        for (Throwable cause = t; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectException
+                    || cause instanceof ConnectTimeoutException
+                    || cause instanceof SocketTimeoutException
+                    || cause instanceof NoHttpResponseException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static boolean isRetryableStatus(int statusCode) {
+        return RETRYABLE_STATUSES.contains(statusCode);
+    }
+
+    private void backOff(int retry) {
+        long ceiling = Math.min(maxMillis, baseMillis << Math.min(retry - 1, 30));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while backing off before a retry", e);
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE;
+    }
+
+    /**
+     * One request through this filter: the real context, and whether the rest of the
+     * chain has been walked yet
+     */
+    private final class Exchange {
+        private final FilterContext ctx;
+        private boolean chainWalked;
+
+        private Exchange(FilterContext ctx) {
+            this.ctx = ctx;
+        }
+
+        Response attempt(FilterableRequestSpecification requestSpec,
+                         FilterableResponseSpecification responseSpec) {
+            return sendFrom(0, requestSpec, responseSpec);
+        }
+
+        /**
+         * Run the attempt filters from {@code index} on, then send the request
+         */
+        Response sendFrom(int index, FilterableRequestSpecification requestSpec,
+                          FilterableResponseSpecification responseSpec) {
+            if (index < attemptFilters.size()) {
+                return attemptFilters.get(index).filter(requestSpec, responseSpec,
+                        new AttemptContext(this, index + 1));
+            }
+            if (!chainWalked) {
+                chainWalked = true;
+                return ctx.next(requestSpec, responseSpec);
+            }
+            return new SendRequestFilter().filter(requestSpec, responseSpec, ctx);
+        }
+    }
+
+    /**
+     * Context of one attempt filter: {@link #next} runs the attempt filters after it and
+     * sends the request, as often as it is called. Everything else goes to the real
+     * context, which the send needs.
+     */
+    private static final class AttemptContext implements FilterContext {
+        private final Exchange exchange;
+        private final int index;
+
+        private AttemptContext(Exchange exchange, int index) {
+            this.exchange = exchange;
+            this.index = index;
+        }
+
+        @Override
+        public Response next(FilterableRequestSpecification requestSpec,
+                             FilterableResponseSpecification responseSpec) {
+            return exchange.sendFrom(index, requestSpec, responseSpec);
+        }
+
+        @Override
+        public void setValue(String name, Object value) {
+            exchange.ctx.setValue(name, value);
+        }
+
+        @Override
+        public <T> T getValue(String name) {
+            return exchange.ctx.getValue(name);
+        }
+
+        @Override
+        public boolean hasValue(String name) {
+            return exchange.ctx.hasValue(name);
+        }
+
+        @Override
+        public boolean hasValue(String name, Object value) {
+            return exchange.ctx.hasValue(name, value);
+        }
+
+        @Override
+        public Response send(RequestSender requestSender) {
+            return exchange.ctx.send(requestSender);
+        }
+    }
+}
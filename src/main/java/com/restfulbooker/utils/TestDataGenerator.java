@@ -6,34 +6,112 @@ import com.restfulbooker.models.BookingDates;
 import com.restfulbooker.models.AuthRequest;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
- * Utility class for generating test data
+ * Utility class for generating test data.
+ * <p>
+ * Faker is only used once, to fill the name and sentence pools below. Generation then
+ * picks from those arrays with the calling thread's {@link ThreadLocalRandom}, so it is
+ * thread-safe and does not contend on a shared {@code Random} or hit Faker's YAML lookups.
  */
 public class TestDataGenerator {
     
-    private static final Faker faker = new Faker();
+    private static final int NAME_POOL_SIZE = 2048;
+    private static final int SENTENCE_POOL_SIZE = 256;
+    
+    private static final String[] ADDITIONAL_NEEDS =
+            {"Breakfast", "Lunch", "Dinner", "Late checkout", "Extra towels", null};
+    private static final String[] firstNames;
+    private static final String[] lastNames;
+    private static final String[] sentences;
+    
+    static {
+        Faker faker = new Faker();
+        firstNames = new String[NAME_POOL_SIZE];
+        lastNames = new String[NAME_POOL_SIZE];
+        for (int i = 0; i < NAME_POOL_SIZE; i++) {
+            firstNames[i] = faker.name().firstName();
+            lastNames[i] = faker.name().lastName();
+        }
+        sentences = new String[SENTENCE_POOL_SIZE];
+        for (int i = 0; i < SENTENCE_POOL_SIZE; i++) {
+            sentences[i] = faker.lorem().sentence();
+        }
+        requireFilled(firstNames, "first name");
+        requireFilled(lastNames, "last name");
+        requireFilled(sentences, "sentence");
+    }
+    
+    private static void requireFilled(String[] pool, String kind) {
+        for (String value : pool) {
+            if (value == null) {
+                throw new IllegalStateException("The " + kind + " pool contains null entries");
+            }
+        }
+    }
     
     /**
      * Generates a random booking with valid data
      */
     public static Booking generateRandomBooking() {
-        LocalDate checkIn = LocalDate.now().plusDays(ThreadLocalRandom.current().nextInt(1, 30));
-        LocalDate checkOut = checkIn.plusDays(ThreadLocalRandom.current().nextInt(1, 14));
+        return randomBooking(ThreadLocalRandom.current(), LocalDate.now());
+    }
+    
+    /**
+     * Generates {@code count} random bookings with valid data
+     */
+    public static List<Booking> generateBookings(int count) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDate today = LocalDate.now();
+        List<Booking> bookings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            bookings.add(randomBooking(random, today));
+        }
+        return bookings;
+    }
+    
+    /**
+     * Infinite stream of random bookings with valid data. Safe to use as a parallel stream.
+     */
+    public static Stream<Booking> bookings() {
+        LocalDate today = LocalDate.now();
+        Supplier<Booking> supplier = () -> randomBooking(ThreadLocalRandom.current(), today);
+        return Stream.generate(supplier);
+    }
+    
+    private static Booking randomBooking(ThreadLocalRandom random, LocalDate today) {
+        LocalDate checkIn = today.plusDays(random.nextInt(1, 30));
+        LocalDate checkOut = checkIn.plusDays(random.nextInt(1, 14));
         
         BookingDates bookingDates = new BookingDates(checkIn, checkOut);
         
         return new Booking(
-            faker.name().firstName(),
-            faker.name().lastName(),
-            ThreadLocalRandom.current().nextInt(50, 2000),
-            faker.bool().bool(),
+            pick(firstNames, random),
+            pick(lastNames, random),
+            random.nextInt(50, 2000),
+            random.nextBoolean(),
             bookingDates,
-            faker.options().option("Breakfast", "Lunch", "Dinner", "Late checkout", "Extra towels", null)
+            pick(ADDITIONAL_NEEDS, random)
         );
     }
     
+    private static String pick(String[] pool, ThreadLocalRandom random) {
+        return pool[random.nextInt(pool.length)];
+    }
+    
+    private static String randomFirstName() {
+        return pick(firstNames, ThreadLocalRandom.current());
+    }
+    
+    private static String randomLastName() {
+        return pick(lastNames, ThreadLocalRandom.current());
+    }
+    
     /**
      * Generates a booking with specific parameters
      */
@@ -122,12 +200,12 @@ public class TestDataGenerator {
         BookingDates bookingDates = new BookingDates(checkIn, checkOut);
         
         return new Booking(
-            faker.name().firstName(),
-            faker.name().lastName(),
+            randomFirstName(),
+            randomLastName(),
             ThreadLocalRandom.current().nextInt(50, 2000),
-            faker.bool().bool(),
+            ThreadLocalRandom.current().nextBoolean(),
             bookingDates,
-            faker.lorem().sentence()
+            pick(sentences, ThreadLocalRandom.current())
         );
     }
     
@@ -139,10 +217,10 @@ public class TestDataGenerator {
         BookingDates bookingDates = new BookingDates(sameDate, sameDate);
         
         return new Booking(
-            faker.name().firstName(),
-            faker.name().lastName(),
+            randomFirstName(),
+            randomLastName(),
             ThreadLocalRandom.current().nextInt(50, 500),
-            faker.bool().bool(),
+            ThreadLocalRandom.current().nextBoolean(),
             bookingDates,
             "Same day booking"
         );
@@ -158,10 +236,10 @@ public class TestDataGenerator {
         BookingDates bookingDates = new BookingDates(checkIn, checkOut);
         
         return new Booking(
-            faker.name().firstName(),
-            faker.name().lastName(),
+            randomFirstName(),
+            randomLastName(),
             ThreadLocalRandom.current().nextInt(50, 1000),
-            faker.bool().bool(),
+            ThreadLocalRandom.current().nextBoolean(),
             bookingDates,
             "Historical booking"
         );
@@ -177,10 +255,10 @@ public class TestDataGenerator {
         BookingDates bookingDates = new BookingDates(checkIn, checkOut);
         
         return new Booking(
-            faker.name().firstName(),
-            faker.name().lastName(),
+            randomFirstName(),
+            randomLastName(),
             ThreadLocalRandom.current().nextInt(100, 3000),
-            faker.bool().bool(),
+            ThreadLocalRandom.current().nextBoolean(),
             bookingDates,
             "Future booking"
         );
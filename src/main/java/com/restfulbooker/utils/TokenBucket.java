@@ -0,0 +1,66 @@
+package com.restfulbooker.utils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Rate limit of {@code ratePerSecond} requests with bursts of up to {@code burst}.
+ * {@link #reserve()} always takes a token, letting the bucket go into debt, and returns
+ * how long the caller has to wait before using it; callers are therefore served in the
+ * order they arrive and both blocking and asynchronous callers can share one bucket.
+ */
+public class TokenBucket {
+
+    private final double tokensPerNano;
+    private final double capacity;
+    private final LongSupplier nanoClock;
+
+    private double tokens;
+    private long refilledAt;
+
+    public TokenBucket(double ratePerSecond, int burst) {
+        this(ratePerSecond, burst, System::nanoTime);
+    }
+
+    /**
+     * @param nanoClock source of {@link System#nanoTime()} readings
+     */
+    TokenBucket(double ratePerSecond, int burst, LongSupplier nanoClock) {
+        if (ratePerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("Rate and burst must be positive: " + ratePerSecond + ", " + burst);
+        }
+        this.tokensPerNano = ratePerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.capacity = burst;
+        this.tokens = burst;
+        this.nanoClock = nanoClock;
+        this.refilledAt = nanoClock.getAsLong();
+    }
+
+    /**
+     * Take a token
+     *
+     * @return nanoseconds to wait before the token may be used, 0 when it is available now
+     */
+    public synchronized long reserve() {
+        long now = nanoClock.getAsLong();
+        tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+        refilledAt = now;
+        tokens--;
+        return tokens >= 0 ? 0 : (long) Math.ceil(-tokens / tokensPerNano);
+    }
+
+    /**
+     * Take a token, sleeping until it may be used
+     */
+    public void acquire() {
+        long waitNanos = reserve();
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a rate limit token", e);
+            }
+        }
+    }
+}
@@ -1,17 +1,23 @@
 package com.restfulbooker.base;
 
 import com.restfulbooker.config.Configuration;
-import com.restfulbooker.models.AuthRequest;
-import com.restfulbooker.models.AuthResponse;
-import com.restfulbooker.utils.ApiEndpoints;
-import com.restfulbooker.utils.RestAssuredHelper;
-import com.restfulbooker.utils.TestDataGenerator;
+import com.restfulbooker.jfr.TestPhaseEvent;
+import com.restfulbooker.utils.ApiClientContext;
+import com.restfulbooker.utils.BookingFixturePool;
+import com.restfulbooker.utils.LatencyRecorder;
+import io.qameta.allure.Allure;
 import io.qameta.allure.Step;
 import io.restassured.response.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.testng.ITestContext;
+import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.BeforeSuite;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
 
 import static org.hamcrest.Matchers.equalTo;
 
@@ -22,13 +28,47 @@ public class BaseTest {
     
     protected static final Logger logger = LoggerFactory.getLogger(BaseTest.class);
     protected static final Configuration config = Configuration.getInstance();
-    protected String authToken;
+    
+    /**
+     * Client context for the API under test: the {@code base.url} parameter of the
+     * enclosing {@code <test>} in testng.xml, or the configured base URL
+     */
+    protected ApiClientContext api = ApiClientContext.getDefault();
+    
+    public ApiClientContext getApi() {
+        return api;
+    }
+    
+    @BeforeSuite(alwaysRun = true)
+    public void setUpSuite() {
+        // Health, breaker and latency state is per suite run
+        ApiClientContext.resetAll();
+        LatencyRecorder.getInstance().reset();
+    }
+    
+    @AfterSuite(alwaysRun = true)
+    public void tearDownSuite() {
+        Path latencyReport = Paths.get(config.getLatencyReportPath());
+        String latencySummary = LatencyRecorder.getInstance().writeJson(latencyReport);
+        Allure.addAttachment("Endpoint latency", "application/json", latencySummary, ".json");
+        logger.info("Endpoint latency summary written to {}", latencyReport);
+        logger.info("Booking fixture pool served {}% of leases from prepared bookings",
+                Math.round(api.getBookingFixtures().getHitRate() * 100));
+        // After the latency report, so cleanup requests are not part of it
+        ApiClientContext.deleteAllCreatedBookings();
+    }
     
     @BeforeClass(alwaysRun = true)
-    public void setUpClass() {
-        logger.info("Setting up test class: {}", this.getClass().getSimpleName());
-        performHealthCheck();
-        authenticateUser();
+    public void setUpClass(ITestContext context) {
+        String baseUrl = context.getCurrentXmlTest().getParameter("base.url");
+        if (baseUrl != null && !baseUrl.isEmpty()) {
+            api = ApiClientContext.forBaseUrl(baseUrl);
+        }
+        logger.info("Setting up test class: {} against {}", this.getClass().getSimpleName(), api.getBaseUrl());
+        TestPhaseEvent.record("health-check", getClass(), this::performHealthCheck);
+        TestPhaseEvent.record("authentication", getClass(), this::authenticateUser);
+        // Created in the background while the first tests run
+        api.getBookingFixtures().fill();
     }
     
     @BeforeMethod(alwaysRun = true) 
@@ -38,13 +78,15 @@ public class BaseTest {
     
     @Step("Perform API health check")
     protected void performHealthCheck() {
-        logger.info("Performing health check on API: {}", config.getBaseUrl());
-        
-        Response response = RestAssuredHelper.performHealthCheck();
-        
-        response.then()
-                .statusCode(201)
-                .body(equalTo("Created"));
+        api.getHealthCheckCache().check(() -> {
+            logger.info("Performing health check on API: {}", api.getBaseUrl());
+            
+            Response response = api.performHealthCheck();
+            
+            response.then()
+                    .statusCode(201)
+                    .body(equalTo("Created"));
+        });
         
         logger.info("Health check passed - API is responding");
     }
@@ -53,29 +95,25 @@ public class BaseTest {
     protected void authenticateUser() {
         logger.info("Authenticating user to get auth token");
         
-        AuthRequest authRequest = TestDataGenerator.generateValidAuthRequest();
-        
-        Response response = RestAssuredHelper.getBaseRequestSpec()
-                .body(authRequest)
-                .when()
-                .post(ApiEndpoints.AUTH)
-                .then()
-                .statusCode(200)
-                .extract()
-                .response();
-        
-        AuthResponse authResponse = response.as(AuthResponse.class);
-        this.authToken = authResponse.getToken();
+        // Shared across test classes; only the first caller hits POST /auth
+        api.getAuthTokenManager().getToken();
         
         logger.info("Authentication successful - Token obtained");
     }
     
     @Step("Get authentication token")
     protected String getAuthToken() {
-        if (authToken == null || authToken.isEmpty()) {
-            authenticateUser();
-        }
-        return authToken;
+        // Always ask the manager so expired or refreshed tokens are picked up; no instance
+        // state, since test methods of one instance may run on several threads at once
+        return api.getAuthTokenManager().getToken();
+    }
+    
+    /**
+     * Lease a prepared booking from the pool; close the lease when the test is done with it.
+     * Use {@code EXCLUSIVE} when the test changes or deletes the booking.
+     */
+    protected BookingFixturePool.Lease leaseBooking(BookingFixturePool.Access access) {
+        return api.getBookingFixtures().lease(access);
     }
     
     /**
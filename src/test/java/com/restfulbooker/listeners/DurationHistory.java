@@ -0,0 +1,83 @@
+package com.restfulbooker.listeners;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.TreeMap;
+
+/**
+ * Durations of earlier runs keyed by test, kept in a tab-separated text file so it can be
+ * cached between CI runs. Each recorded duration is blended with the stored one as an
+ * exponentially weighted moving average, so a single slow run does not reorder the suite.
+ */
+class DurationHistory {
+
+    private static final double WEIGHT = 0.5;
+    private static final String HEADER = "# test\tmillis";
+
+    private final Path file;
+    private final Map<String, Long> millisByKey = new TreeMap<>();
+
+    private DurationHistory(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Load the history, starting empty when the file does not exist yet
+     */
+    static DurationHistory load(Path file) {
+        DurationHistory history = new DurationHistory(file);
+        if (!Files.exists(file)) {
+            return history;
+        }
+        try {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                int tab = line.lastIndexOf('\t');
+                if (tab > 0) {
+                    history.millisByKey.put(line.substring(0, tab), Long.parseLong(line.substring(tab + 1)));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read test history from " + file, e);
+        }
+        return history;
+    }
+
+    synchronized OptionalLong get(String key) {
+        Long millis = millisByKey.get(key);
+        return millis == null ? OptionalLong.empty() : OptionalLong.of(millis);
+    }
+
+    synchronized void record(String key, long millis) {
+        millisByKey.merge(key, millis, (previous, current) -> Math.round(previous * (1 - WEIGHT) + current * WEIGHT));
+    }
+
+    /**
+     * Write the history through a temporary file so an interrupted run never leaves it truncated
+     */
+    synchronized void save() {
+        List<String> lines = new ArrayList<>(millisByKey.size() + 1);
+        lines.add(HEADER);
+        millisByKey.forEach((key, millis) -> lines.add(key + "\t" + millis));
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            Files.write(temp, lines, StandardCharsets.UTF_8);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write test history to " + file, e);
+        }
+    }
+}
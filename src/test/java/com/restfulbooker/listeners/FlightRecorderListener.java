@@ -0,0 +1,85 @@
+package com.restfulbooker.listeners;
+
+import com.restfulbooker.config.Configuration;
+import com.restfulbooker.jfr.SuiteRecording;
+import com.restfulbooker.jfr.TestMethodEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestResult;
+
+import java.nio.file.Paths;
+
+/**
+ * Starts a flight recording around the suite when {@code jfr.enabled} is set and emits
+ * a {@link TestMethodEvent} for every test and configuration method. Open the file
+ * from {@code jfr.output} in JDK Mission Control to line slow requests up with GC
+ * pauses and lock contention.
+ */
+public class FlightRecorderListener implements ISuiteListener, IInvokedMethodListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(FlightRecorderListener.class);
+
+    private final ThreadLocal<TestMethodEvent> currentEvent = new ThreadLocal<>();
+    private SuiteRecording recording;
+
+    @Override
+    public synchronized void onStart(ISuite suite) {
+        Configuration config = Configuration.getInstance();
+        if (config.isJfrEnabled() && recording == null) {
+            recording = SuiteRecording.start(Paths.get(config.getJfrOutputPath()));
+            logger.info("Flight recording started, writing to {}", recording.getDestination());
+        }
+    }
+
+    @Override
+    public synchronized void onFinish(ISuite suite) {
+        if (recording != null) {
+            recording.close();
+            logger.info("Flight recording written to {}", recording.getDestination());
+            recording = null;
+        }
+    }
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        TestMethodEvent event = new TestMethodEvent();
+        if (event.isEnabled()) {
+            event.begin();
+            currentEvent.set(event);
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        TestMethodEvent event = currentEvent.get();
+        if (event == null) {
+            return;
+        }
+        currentEvent.remove();
+        event.end();
+        if (event.shouldCommit()) {
+            event.testClass = testResult.getTestClass().getName();
+            event.method = method.getTestMethod().getMethodName();
+            event.configuration = method.isConfigurationMethod();
+            event.status = status(testResult.getStatus());
+            event.commit();
+        }
+    }
+
+    private static String status(int status) {
+        switch (status) {
+            case ITestResult.SUCCESS:
+                return "PASS";
+            case ITestResult.FAILURE:
+                return "FAIL";
+            case ITestResult.SKIP:
+                return "SKIP";
+            default:
+                return String.valueOf(status);
+        }
+    }
+}
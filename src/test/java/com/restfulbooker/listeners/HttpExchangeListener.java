@@ -0,0 +1,38 @@
+package com.restfulbooker.listeners;
+
+import com.restfulbooker.config.Configuration;
+import com.restfulbooker.utils.AllureAttachmentPolicy;
+import com.restfulbooker.utils.ExchangeLog;
+import com.restfulbooker.utils.HttpExchange;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+
+import java.util.List;
+
+/**
+ * Gives every test and configuration method its own {@link ExchangeLog} ring. When the
+ * method ends, the buffered exchanges are logged if it failed and attached to the
+ * report as the {@link AllureAttachmentPolicy} decides.
+ */
+public class HttpExchangeListener implements IInvokedMethodListener {
+
+    private final boolean loggingEnabled = Configuration.getInstance().isLoggingEnabled();
+    private final AllureAttachmentPolicy attachmentPolicy = AllureAttachmentPolicy.getInstance();
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        ExchangeLog.startCapture();
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        List<HttpExchange> exchanges = ExchangeLog.drain();
+        boolean failed = testResult.getStatus() == ITestResult.FAILURE;
+        if (failed && loggingEnabled) {
+            ExchangeLog.log("Exchanges of failed " + testResult.getTestClass().getRealClass().getSimpleName()
+                    + "." + method.getTestMethod().getMethodName() + ":", exchanges);
+        }
+        attachmentPolicy.attach(exchanges, failed);
+    }
+}
@@ -0,0 +1,167 @@
+package com.restfulbooker.listeners;
+
+import com.restfulbooker.config.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Orders the methods of every {@code <test>} longest-first by their duration in earlier
+ * runs, so with parallel workers the slowest tests start early instead of being left as
+ * stragglers at the end. Declared priorities only break ties, e.g. on the first run when
+ * {@code test.history} is still empty. Methods without history are estimated at the
+ * average of those with one.
+ * <p>
+ * {@code dependsOnMethods} turns the methods into a graph of chains. TestNG runs disjoint
+ * chains and independent methods concurrently and keeps the order within a chain; this
+ * scheduler ranks each method by the longest path from it to the end of its chain rather
+ * than by its own duration, so the critical path starts first and bounds the suite time.
+ * <p>
+ * Durations of passed and failed tests are written back to {@code test.history} when the
+ * suite finishes.
+ */
+public class LongestFirstScheduler implements IMethodInterceptor, ITestListener, ISuiteListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(LongestFirstScheduler.class);
+
+    private final DurationHistory history;
+    private final Map<String, LongAdder> runMillis = new ConcurrentHashMap<>();
+
+    public LongestFirstScheduler() {
+        this.history = DurationHistory.load(Paths.get(Configuration.getInstance().getTestHistoryPath()));
+    }
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        Map<IMethodInstance, Long> estimates = estimate(methods, context.getName());
+        List<IMethodInstance> scheduled = new ArrayList<>(methods);
+        Map<IMethodInstance, Long> ranks = criticalPaths(scheduled, estimates);
+        scheduled.sort(Comparator.<IMethodInstance>comparingLong(ranks::get).reversed()
+                .thenComparingInt(method -> method.getMethod().getPriority()));
+
+        long total = scheduled.stream().mapToLong(estimates::get).sum();
+        long criticalPath = ranks.values().stream().mapToLong(Long::longValue).max().orElse(0);
+        logger.info("Scheduled {} methods in {} longest first ({} ms estimated, {} ms critical path)",
+                scheduled.size(), context.getName(), total, criticalPath);
+        return scheduled;
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (runMillis.isEmpty()) {
+            return;
+        }
+        runMillis.forEach((key, millis) -> history.record(key, millis.sum()));
+        runMillis.clear();
+        history.save();
+        logger.info("Test durations written to {}", Configuration.getInstance().getTestHistoryPath());
+    }
+
+    /**
+     * Summed over all invocations, since data-driven methods are scheduled as one unit
+     */
+    private void record(ITestResult result) {
+        String key = key(result.getTestContext().getName(), result.getMethod());
+        runMillis.computeIfAbsent(key, k -> new LongAdder()).add(result.getEndMillis() - result.getStartMillis());
+    }
+
+    private Map<IMethodInstance, Long> estimate(List<IMethodInstance> methods, String testName) {
+        Map<IMethodInstance, Long> estimates = new HashMap<>();
+        List<IMethodInstance> unknown = new ArrayList<>();
+        long knownTotal = 0;
+        for (IMethodInstance method : methods) {
+            OptionalLong millis = history.get(key(testName, method.getMethod()));
+            if (millis.isPresent()) {
+                estimates.put(method, millis.getAsLong());
+                knownTotal += millis.getAsLong();
+            } else {
+                unknown.add(method);
+            }
+        }
+        int known = methods.size() - unknown.size();
+        long fallback = known == 0 ? 1 : Math.max(1, knownTotal / known);
+        unknown.forEach(method -> estimates.put(method, fallback));
+        return estimates;
+    }
+
+    /**
+     * Estimated time from the start of each method to the end of the longest chain of
+     * methods depending on it, directly or transitively
+     */
+    private static Map<IMethodInstance, Long> criticalPaths(List<IMethodInstance> methods,
+                                                           Map<IMethodInstance, Long> estimates) {
+        Map<String, IMethodInstance> byName = new HashMap<>();
+        for (IMethodInstance method : methods) {
+            byName.put(method.getMethod().getQualifiedName(), method);
+        }
+        Map<IMethodInstance, List<IMethodInstance>> dependents = new HashMap<>();
+        for (IMethodInstance method : methods) {
+            for (String upstream : method.getMethod().getMethodsDependedUpon()) {
+                IMethodInstance dependency = byName.get(upstream);
+                if (dependency != null) {
+                    dependents.computeIfAbsent(dependency, k -> new ArrayList<>()).add(method);
+                }
+            }
+        }
+
+        Map<IMethodInstance, Long> ranks = new HashMap<>();
+        for (IMethodInstance method : methods) {
+            rank(method, estimates, dependents, ranks, new HashSet<>());
+        }
+        return ranks;
+    }
+
+    private static long rank(IMethodInstance method, Map<IMethodInstance, Long> estimates,
+                             Map<IMethodInstance, List<IMethodInstance>> dependents,
+                             Map<IMethodInstance, Long> ranks, Set<IMethodInstance> visiting) {
+        Long known = ranks.get(method);
+        if (known != null) {
+            return known;
+        }
+        if (!visiting.add(method)) {
+            // A cycle; TestNG reports it, so just stop walking
+            return 0;
+        }
+        long longestDownstream = 0;
+        for (IMethodInstance dependent : dependents.getOrDefault(method, List.of())) {
+            longestDownstream = Math.max(longestDownstream, rank(dependent, estimates, dependents, ranks, visiting));
+        }
+        visiting.remove(method);
+        long rank = estimates.get(method) + longestDownstream;
+        ranks.put(method, rank);
+        return rank;
+    }
+
+    private static String key(String testName, ITestNGMethod method) {
+        return testName + "/" + method.getRealClass().getName() + "#" + method.getMethodName();
+    }
+}
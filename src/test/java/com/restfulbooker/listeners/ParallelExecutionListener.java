@@ -0,0 +1,34 @@
+package com.restfulbooker.listeners;
+
+import com.restfulbooker.config.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+
+import java.util.List;
+
+/**
+ * Applies {@code test.parallel} ({@code methods}, {@code classes}, {@code instances} or
+ * {@code none}) and {@code test.threads} to every suite before it runs, so the degree of
+ * parallelism is configured in one place instead of in testng.xml and the POM
+ */
+public class ParallelExecutionListener implements IAlterSuiteListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParallelExecutionListener.class);
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        Configuration config = Configuration.getInstance();
+        XmlSuite.ParallelMode mode = XmlSuite.ParallelMode.getValidParallel(config.getTestParallelMode());
+        int threads = config.getTestThreads();
+        if (threads <= 0) {
+            throw new IllegalArgumentException("test.threads must be positive: " + threads);
+        }
+        for (XmlSuite suite : suites) {
+            suite.setParallel(mode);
+            suite.setThreadCount(threads);
+            logger.info("Running suite {} with parallel={} on {} threads", suite.getName(), mode, threads);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.restfulbooker.listeners;
+
+import com.restfulbooker.config.Configuration;
+import com.restfulbooker.utils.NetworkTimeTracker;
+import io.qameta.allure.Allure;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IHookCallBack;
+import org.testng.IHookable;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestResult;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Measures wall time, CPU time and allocated bytes of every test method and splits the
+ * client-side time (wall time minus time spent in HTTP exchanges) into waiting and
+ * JSON serialization, JsonPath, Hamcrest, Allure, logging and RestAssured using stack
+ * sampling when {@code perf.sampling.interval} is set. Each test gets a "Resource usage" Allure attachment and the whole suite is
+ * written as CSV to {@code perf.resources.report}.
+ * <p>
+ * Implemented as an {@link IHookable} because the suite time-out makes TestNG run each
+ * test body on its own thread, and CPU and allocation counters are per thread.
+ */
+public class ResourceUsageListener implements IHookable, ISuiteListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResourceUsageListener.class);
+
+    private static final String CSV_HEADER = "class,method,status,wall_ms,cpu_ms,allocated_kb,network_ms,client_ms,"
+            + "wait_ms,serialization_ms,jsonpath_ms,hamcrest_ms,allure_ms,logging_ms,restassured_ms,other_ms,samples";
+
+    private static final StackSampler.Category[] CLIENT_CATEGORIES = {
+            StackSampler.Category.WAIT, StackSampler.Category.SERIALIZATION, StackSampler.Category.JSON_PATH, StackSampler.Category.HAMCREST,
+            StackSampler.Category.ALLURE, StackSampler.Category.LOGGING, StackSampler.Category.REST_ASSURED,
+            StackSampler.Category.OTHER};
+
+    private final com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final StackSampler sampler = new StackSampler(Configuration.getInstance().getSamplingInterval());
+    private final Queue<Usage> results = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public void onStart(ISuite suite) {
+        results.clear();
+        sampler.start();
+    }
+
+    @Override
+    public void run(IHookCallBack callBack, ITestResult testResult) {
+        Thread thread = Thread.currentThread();
+        long threadId = thread.getId();
+        long cpuBefore = threadMXBean.getCurrentThreadCpuTime();
+        long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        long networkBefore = NetworkTimeTracker.currentThreadNanos();
+        long start = System.nanoTime();
+        sampler.register(thread);
+        try {
+            callBack.runTestMethod(testResult);
+        } finally {
+            long[] samples = sampler.unregister(thread);
+            Usage usage = new Usage(
+                    testResult.getTestClass().getRealClass().getSimpleName(),
+                    testResult.getMethod().getMethodName(),
+                    testResult.getThrowable() == null ? "PASS" : "FAIL",
+                    System.nanoTime() - start,
+                    threadMXBean.getCurrentThreadCpuTime() - cpuBefore,
+                    threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore,
+                    NetworkTimeTracker.currentThreadNanos() - networkBefore,
+                    samples);
+            results.add(usage);
+            Allure.addAttachment("Resource usage", "text/csv", CSV_HEADER + "\n" + usage.toCsv() + "\n", ".csv");
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        sampler.shutdown();
+        if (results.isEmpty()) {
+            return;
+        }
+
+        List<String> lines = new ArrayList<>();
+        lines.add(CSV_HEADER);
+        double[] totals = new double[CLIENT_CATEGORIES.length];
+        double wallTotal = 0;
+        double networkTotal = 0;
+        for (Usage usage : results) {
+            lines.add(usage.toCsv());
+            wallTotal += usage.wallNanos;
+            networkTotal += usage.networkNanos;
+            for (int i = 0; i < CLIENT_CATEGORIES.length; i++) {
+                totals[i] += usage.clientNanos(CLIENT_CATEGORIES[i]);
+            }
+        }
+
+        Path report = Paths.get(Configuration.getInstance().getResourceReportPath());
+        try {
+            if (report.getParent() != null) {
+                Files.createDirectories(report.getParent());
+            }
+            Files.write(report, lines, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write resource report to " + report, e);
+        }
+
+        StringBuilder summary = new StringBuilder(String.format(Locale.ROOT,
+                "%d tests: wall %.0f ms, network %.0f ms", results.size(), wallTotal / 1e6, networkTotal / 1e6));
+        for (int i = 0; i < CLIENT_CATEGORIES.length; i++) {
+            summary.append(String.format(Locale.ROOT, ", %s %.0f ms",
+                    CLIENT_CATEGORIES[i].name().toLowerCase(Locale.ROOT), totals[i] / 1e6));
+        }
+        logger.info("Resource usage written to {} ({})", report, summary);
+    }
+
+    private static final class Usage {
+        private final String className;
+        private final String methodName;
+        private final String status;
+        private final long wallNanos;
+        private final long cpuNanos;
+        private final long allocatedBytes;
+        private final long networkNanos;
+        private final long[] samples;
+
+        private Usage(String className, String methodName, String status, long wallNanos, long cpuNanos,
+                      long allocatedBytes, long networkNanos, long[] samples) {
+            this.className = className;
+            this.methodName = methodName;
+            this.status = status;
+            this.wallNanos = wallNanos;
+            this.cpuNanos = cpuNanos;
+            this.allocatedBytes = allocatedBytes;
+            this.networkNanos = Math.min(networkNanos, wallNanos);
+            this.samples = samples;
+        }
+
+        private long clientSamples() {
+            long total = 0;
+            for (StackSampler.Category category : CLIENT_CATEGORIES) {
+                total += samples[category.ordinal()];
+            }
+            return total;
+        }
+
+        /**
+         * Share of the non-network wall time attributed to {@code category} by the sampler
+         */
+        private double clientNanos(StackSampler.Category category) {
+            long clientSamples = clientSamples();
+            if (clientSamples == 0) {
+                return category == StackSampler.Category.OTHER ? wallNanos - networkNanos : 0;
+            }
+            return (double) (wallNanos - networkNanos) * samples[category.ordinal()] / clientSamples;
+        }
+
+        private String toCsv() {
+            StringBuilder row = new StringBuilder()
+                    .append(className).append(',')
+                    .append(methodName).append(',')
+                    .append(status).append(',')
+                    .append(millis(wallNanos)).append(',')
+                    .append(millis(cpuNanos)).append(',')
+                    .append(allocatedBytes / 1024).append(',')
+                    .append(millis(networkNanos)).append(',')
+                    .append(millis(wallNanos - networkNanos));
+            for (StackSampler.Category category : CLIENT_CATEGORIES) {
+                row.append(',').append(millis(clientNanos(category)));
+            }
+            long totalSamples = 0;
+            for (long count : samples) {
+                totalSamples += count;
+            }
+            return row.append(',').append(totalSamples).toString();
+        }
+
+        private static String millis(double nanos) {
+            return String.format(Locale.ROOT, "%.2f", nanos / 1e6);
+        }
+    }
+}
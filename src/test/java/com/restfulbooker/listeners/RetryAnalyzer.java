@@ -0,0 +1,73 @@
+package com.restfulbooker.listeners;
+
+import com.restfulbooker.base.BaseTest;
+import com.restfulbooker.config.Configuration;
+import com.restfulbooker.utils.ApiClientContext;
+import com.restfulbooker.utils.NetworkTimeTracker;
+import com.restfulbooker.utils.RetryBudget;
+import com.restfulbooker.utils.RetryFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IRetryAnalyzer;
+import org.testng.ITestResult;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Reruns a failed test up to {@code retry.count} times when it failed for a transient
+ * reason: a connect error or timeout, or a 502/503/504 where another status was expected.
+ * A rerun is paid from the {@link RetryBudget} of the test's {@link ApiClientContext}, the
+ * one its request retries draw on too, at one retry per request the failed run sent on
+ * the test thread, so request retries and test reruns together stay within one budget.
+ * Installed on every test by {@link RetryListener}.
+ */
+public class RetryAnalyzer implements IRetryAnalyzer {
+
+    private static final Logger logger = LoggerFactory.getLogger(RetryAnalyzer.class);
+    private static final Pattern UNEXPECTED_STATUS = Pattern.compile("Expected status code .* but was <(\\d{3})>");
+
+    static final String REQUESTS_AT_START = RetryAnalyzer.class.getName() + ".requestsAtStart";
+
+    private final int maxRetries = Configuration.getInstance().getRetryCount();
+    private int retries;
+
+    @Override
+    public boolean retry(ITestResult result) {
+        Throwable failure = result.getThrowable();
+        if (retries >= maxRetries || !isTransient(failure) || !budgetOf(result).tryAcquire(requestsSent(result))) {
+            return false;
+        }
+        retries++;
+        logger.warn("Retrying {} ({} of {}) after a transient failure: {}", result.getMethod().getMethodName(),
+                retries, maxRetries, failure.toString().lines().findFirst().orElse(""));
+        return true;
+    }
+
+    private static RetryBudget budgetOf(ITestResult result) {
+        ApiClientContext api = result.getInstance() instanceof BaseTest
+                ? ((BaseTest) result.getInstance()).getApi()
+                : ApiClientContext.getDefault();
+        return api.getRetryBudget();
+    }
+
+    /**
+     * Requests the failed run sent on the test thread, at least one
+     */
+    private static long requestsSent(ITestResult result) {
+        Object atStart = result.getAttribute(REQUESTS_AT_START);
+        long sent = atStart instanceof Long ? NetworkTimeTracker.currentThreadRequests() - (Long) atStart : 0;
+        return Math.max(1, sent);
+    }
+
+    private static boolean isTransient(Throwable failure) {
+        if (failure == null) {
+            return false;
+        }
+        if (RetryFilter.isTransientFailure(failure)) {
+            return true;
+        }
+        Matcher status = UNEXPECTED_STATUS.matcher(String.valueOf(failure.getMessage()));
+        return status.find() && RetryFilter.isRetryableStatus(Integer.parseInt(status.group(1)));
+    }
+}
@@ -0,0 +1,33 @@
+package com.restfulbooker.listeners;
+
+import com.restfulbooker.utils.NetworkTimeTracker;
+import org.testng.IAnnotationTransformer;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import org.testng.annotations.ITestAnnotation;
+import org.testng.internal.annotations.DisabledRetryAnalyzer;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+
+/**
+ * Installs {@link RetryAnalyzer} on every test that does not declare its own retry
+ * analyzer, and notes how many requests the test thread had sent when each test started
+ */
+public class RetryListener implements IAnnotationTransformer, ITestListener {
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public void transform(ITestAnnotation annotation, Class testClass, Constructor testConstructor,
+                          Method testMethod) {
+        Class<?> declared = annotation.getRetryAnalyzerClass();
+        if (declared == null || declared == DisabledRetryAnalyzer.class) {
+            annotation.setRetryAnalyzer(RetryAnalyzer.class);
+        }
+    }
+
+    @Override
+    public void onTestStart(ITestResult result) {
+        result.setAttribute(RetryAnalyzer.REQUESTS_AT_START, NetworkTimeTracker.currentThreadRequests());
+    }
+}
@@ -0,0 +1,128 @@
+package com.restfulbooker.listeners;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Periodically samples the stacks of registered threads and attributes each sample to
+ * the library the thread is executing in. Frames from the JDK and the Groovy runtime
+ * are skipped so that, for example, Groovy code running on behalf of JsonPath counts
+ * as JsonPath. A thread that is blocked, parked or sleeping counts as waiting wherever
+ * it is, e.g. for other threads' requests, a retry backoff or a limiter permit.
+ */
+class StackSampler {
+
+    enum Category {
+        NETWORK, WAIT, SERIALIZATION, JSON_PATH, HAMCREST, ALLURE, LOGGING, REST_ASSURED, OTHER
+    }
+
+    private static final String[][] PREFIXES = new String[Category.values().length][];
+
+    static {
+        PREFIXES[Category.NETWORK.ordinal()] = new String[] {
+                "java.net.", "sun.nio.ch.", "sun.security.ssl.", "org.apache.http."};
+        PREFIXES[Category.WAIT.ordinal()] = new String[0];
+        PREFIXES[Category.SERIALIZATION.ordinal()] = new String[] {"com.fasterxml.jackson."};
+        PREFIXES[Category.JSON_PATH.ordinal()] = new String[] {
+                "io.restassured.path.", "io.restassured.internal.path.", "groovy.json."};
+        PREFIXES[Category.HAMCREST.ordinal()] = new String[] {"org.hamcrest."};
+        PREFIXES[Category.ALLURE.ordinal()] = new String[] {"io.qameta.allure.", "org.aspectj."};
+        PREFIXES[Category.LOGGING.ordinal()] = new String[] {"ch.qos.logback.", "org.slf4j."};
+        PREFIXES[Category.REST_ASSURED.ordinal()] = new String[] {"io.restassured."};
+        PREFIXES[Category.OTHER.ordinal()] = new String[0];
+    }
+
+    private static final String[] SKIPPED_PREFIXES = {
+            "java.", "javax.", "jdk.", "sun.", "com.sun.", "groovy.", "org.codehaus.groovy.", "org.apache.commons."};
+
+    private final long intervalMillis;
+    private final Map<Thread, AtomicLongArray> activeThreads = new ConcurrentHashMap<>();
+    private ScheduledExecutorService scheduler;
+
+    StackSampler(long intervalMillis) {
+        this.intervalMillis = intervalMillis;
+    }
+
+    boolean isEnabled() {
+        return intervalMillis > 0;
+    }
+
+    synchronized void start() {
+        if (!isEnabled() || scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "stack-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::sampleAll, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    synchronized void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+        activeThreads.clear();
+    }
+
+    void register(Thread thread) {
+        if (isEnabled()) {
+            activeThreads.put(thread, new AtomicLongArray(Category.values().length));
+        }
+    }
+
+    /**
+     * Stop sampling the thread and return its sample count per {@link Category} ordinal
+     */
+    long[] unregister(Thread thread) {
+        AtomicLongArray counts = activeThreads.remove(thread);
+        long[] result = new long[Category.values().length];
+        if (counts != null) {
+            for (int i = 0; i < result.length; i++) {
+                result[i] = counts.get(i);
+            }
+        }
+        return result;
+    }
+
+    private void sampleAll() {
+        activeThreads.forEach((thread, counts) ->
+                counts.incrementAndGet(classify(thread.getState(), thread.getStackTrace()).ordinal()));
+    }
+
+    static Category classify(Thread.State state, StackTraceElement[] stack) {
+        if (state == Thread.State.BLOCKED || state == Thread.State.WAITING || state == Thread.State.TIMED_WAITING) {
+            return Category.WAIT;
+        }
+        if (stack.length > 0 && matches(stack[0].getClassName(), PREFIXES[Category.NETWORK.ordinal()])) {
+            return Category.NETWORK;
+        }
+        for (StackTraceElement frame : stack) {
+            String className = frame.getClassName();
+            for (Category category : Category.values()) {
+                if (matches(className, PREFIXES[category.ordinal()])) {
+                    return category;
+                }
+            }
+            if (!matches(className, SKIPPED_PREFIXES)) {
+                return Category.OTHER;
+            }
+        }
+        return Category.OTHER;
+    }
+
+    private static boolean matches(String className, String[] prefixes) {
+        for (String prefix : prefixes) {
+            if (className.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,78 @@
+package com.restfulbooker.perf;
+
+import com.restfulbooker.utils.RestAssuredHelper;
+import io.restassured.filter.log.RequestLoggingFilter;
+import io.restassured.filter.log.ResponseLoggingFilter;
+import io.restassured.specification.RequestSpecification;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Measures allocation and time per request specification built through
+ * {@link RestAssuredHelper} against the previous per-call {@code given()} construction.
+ * No HTTP traffic is generated.
+ *
+ * <pre>
+ * mvn -q test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.restfulbooker.perf.RequestSpecAllocationBenchmark
+ * </pre>
+ */
+public class RequestSpecAllocationBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int MEASURED_ITERATIONS = 50_000;
+    private static final String TOKEN = "benchmark-token";
+
+    private static volatile Object sink;
+
+    public static void main(String[] args) {
+        boolean logging = Boolean.parseBoolean(System.getProperty("logging.enabled", "true"));
+
+        System.out.printf("%-32s %14s %12s%n", "Specification", "bytes/op", "ns/op");
+        report("base (per-call given())", () -> legacyBaseSpec(logging));
+        report("base (prebuilt templates)", RestAssuredHelper::getBaseRequestSpec);
+        report("auth (per-call given())", () -> legacyBaseSpec(logging).cookie("token", TOKEN));
+        report("auth (prebuilt templates)", () -> RestAssuredHelper.getAuthenticatedRequestSpec(TOKEN));
+    }
+
+    /**
+     * Request specification construction as done before the prebuilt templates
+     */
+    private static RequestSpecification legacyBaseSpec(boolean logging) {
+        RequestSpecification requestSpec = given()
+                .contentType("application/json")
+                .accept("application/json");
+
+        if (logging) {
+            requestSpec = requestSpec
+                    .filter(new RequestLoggingFilter())
+                    .filter(new ResponseLoggingFilter());
+        }
+
+        return requestSpec;
+    }
+
+    private static void report(String name, Supplier<RequestSpecification> specSupplier) {
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink = specSupplier.get();
+        }
+
+        long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            sink = specSupplier.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        System.out.printf("%-32s %14d %12d%n", name,
+                allocated / MEASURED_ITERATIONS, elapsed / MEASURED_ITERATIONS);
+    }
+}
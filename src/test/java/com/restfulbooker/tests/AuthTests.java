@@ -4,7 +4,6 @@ import com.restfulbooker.base.BaseTest;
 import com.restfulbooker.models.AuthRequest;
 import com.restfulbooker.models.AuthResponse;
 import com.restfulbooker.utils.ApiEndpoints;
-import com.restfulbooker.utils.RestAssuredHelper;
 import com.restfulbooker.utils.TestDataGenerator;
 import io.qameta.allure.*;
 import io.restassured.response.Response;
@@ -27,7 +26,7 @@ public class AuthTests extends BaseTest {
     public void testValidAuthentication() {
         AuthRequest authRequest = TestDataGenerator.generateValidAuthRequest();
         
-        Response response = RestAssuredHelper.getBaseRequestSpec()
+        Response response = api.getBaseRequestSpec()
                 .body(authRequest)
                 .when()
                 .post(ApiEndpoints.AUTH)
@@ -52,7 +51,7 @@ public class AuthTests extends BaseTest {
     public void testInvalidAuthentication() {
         AuthRequest authRequest = TestDataGenerator.generateInvalidAuthRequest();
         
-        RestAssuredHelper.getBaseRequestSpec()
+        api.getBaseRequestSpec()
                 .body(authRequest)
                 .when()
                 .post(ApiEndpoints.AUTH)
@@ -70,7 +69,7 @@ public class AuthTests extends BaseTest {
     public void testAuthenticationWithEmptyUsername() {
         AuthRequest authRequest = new AuthRequest("", "password123");
         
-        RestAssuredHelper.getBaseRequestSpec()
+        api.getBaseRequestSpec()
                 .body(authRequest)
                 .when()
                 .post(ApiEndpoints.AUTH)
@@ -88,7 +87,7 @@ public class AuthTests extends BaseTest {
     public void testAuthenticationWithEmptyPassword() {
         AuthRequest authRequest = new AuthRequest("admin", "");
         
-        RestAssuredHelper.getBaseRequestSpec()
+        api.getBaseRequestSpec()
                 .body(authRequest)
                 .when()
                 .post(ApiEndpoints.AUTH)
@@ -104,7 +103,7 @@ public class AuthTests extends BaseTest {
     @Description("Verify authentication with null request body")
     @Severity(SeverityLevel.NORMAL)
     public void testAuthenticationWithNullBody() {
-        RestAssuredHelper.getBaseRequestSpec()
+        api.getBaseRequestSpec()
                 .when()
                 .post(ApiEndpoints.AUTH)
                 .then()
@@ -120,7 +119,7 @@ public class AuthTests extends BaseTest {
     public void testAuthenticationWithWrongMethod() {
         AuthRequest authRequest = TestDataGenerator.generateValidAuthRequest();
         
-        RestAssuredHelper.getBaseRequestSpec()
+        api.getBaseRequestSpec()
                 .body(authRequest)
                 .when()
                 .get(ApiEndpoints.AUTH)
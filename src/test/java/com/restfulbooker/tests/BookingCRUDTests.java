@@ -4,12 +4,21 @@ import com.restfulbooker.base.BaseTest;
 import com.restfulbooker.models.Booking;
 import com.restfulbooker.models.BookingResponse;
 import com.restfulbooker.utils.ApiEndpoints;
-import com.restfulbooker.utils.RestAssuredHelper;
+import com.restfulbooker.utils.BookingFixturePool;
+import com.restfulbooker.utils.BookingFixturePool.Access;
+import com.restfulbooker.utils.ConcurrentRunner;
+import com.restfulbooker.utils.LatencySlo;
 import com.restfulbooker.utils.TestDataGenerator;
 import io.qameta.allure.*;
 import io.restassured.response.Response;
 import org.testng.annotations.Test;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 import static org.hamcrest.Matchers.*;
 import static org.testng.Assert.*;
 
@@ -20,8 +29,6 @@ import static org.testng.Assert.*;
 @Feature("Booking CRUD Operations")
 public class BookingCRUDTests extends BaseTest {
     
-    private Integer createdBookingId;
-    
     @Test(groups = {"smoke", "regression"}, priority = 1)
     @Story("Create Booking")
     @Description("Verify that a new booking can be created successfully")
@@ -29,7 +36,7 @@ public class BookingCRUDTests extends BaseTest {
     public void testCreateBooking() {
         Booking newBooking = TestDataGenerator.generateRandomBooking();
         
-        Response response = RestAssuredHelper.getBaseRequestSpec()
+        Response response = api.getBaseRequestSpec()
                 .body(newBooking)
                 .when()
                 .post(ApiEndpoints.BOOKING)
@@ -45,7 +52,7 @@ public class BookingCRUDTests extends BaseTest {
                 .response();
         
         BookingResponse bookingResponse = response.as(BookingResponse.class);
-        createdBookingId = bookingResponse.getBookingId();
+        Integer createdBookingId = bookingResponse.getBookingId();
         
         assertNotNull(createdBookingId, "Booking ID should not be null");
         assertTrue(createdBookingId > 0, "Booking ID should be positive");
@@ -65,29 +72,33 @@ public class BookingCRUDTests extends BaseTest {
     @Description("Verify that an existing booking can be updated completely")
     @Severity(SeverityLevel.CRITICAL)
     public void testUpdateBookingCompletely() {
-        Booking updatedBooking = TestDataGenerator.generateRandomBooking();
-        
-        Response response = RestAssuredHelper.getAuthenticatedRequestSpec(getAuthToken())
-                .body(updatedBooking)
-                .pathParam("id", createdBookingId)
-                .when()
-                .put(ApiEndpoints.BOOKING_BY_ID)
-                .then()
-                .statusCode(200)
-                .body("firstname", equalTo(updatedBooking.getFirstName()))
-                .body("lastname", equalTo(updatedBooking.getLastName()))
-                .body("totalprice", equalTo(updatedBooking.getTotalPrice()))
-                .body("depositpaid", equalTo(updatedBooking.getDepositPaid()))
-                .extract()
-                .response();
-        
-        Booking responseBooking = response.as(Booking.class);
-        assertEquals(responseBooking.getFirstName(), updatedBooking.getFirstName());
-        assertEquals(responseBooking.getLastName(), updatedBooking.getLastName());
-        assertEquals(responseBooking.getTotalPrice(), updatedBooking.getTotalPrice());
-        assertEquals(responseBooking.getDepositPaid(), updatedBooking.getDepositPaid());
-        
-        logger.info("Successfully updated booking with ID: {}", createdBookingId);
+        try (BookingFixturePool.Lease lease = leaseBooking(Access.EXCLUSIVE)) {
+            int bookingId = lease.getBookingId();
+            
+            Booking updatedBooking = TestDataGenerator.generateRandomBooking();
+            
+            Response response = api.getAuthenticatedRequestSpec(getAuthToken())
+                    .body(updatedBooking)
+                    .pathParam("id", bookingId)
+                    .when()
+                    .put(ApiEndpoints.BOOKING_BY_ID)
+                    .then()
+                    .statusCode(200)
+                    .body("firstname", equalTo(updatedBooking.getFirstName()))
+                    .body("lastname", equalTo(updatedBooking.getLastName()))
+                    .body("totalprice", equalTo(updatedBooking.getTotalPrice()))
+                    .body("depositpaid", equalTo(updatedBooking.getDepositPaid()))
+                    .extract()
+                    .response();
+            
+            Booking responseBooking = response.as(Booking.class);
+            assertEquals(responseBooking.getFirstName(), updatedBooking.getFirstName());
+            assertEquals(responseBooking.getLastName(), updatedBooking.getLastName());
+            assertEquals(responseBooking.getTotalPrice(), updatedBooking.getTotalPrice());
+            assertEquals(responseBooking.getDepositPaid(), updatedBooking.getDepositPaid());
+            
+            logger.info("Successfully updated booking with ID: {}", bookingId);
+        }
     }
     
     @Test(groups = {"regression"}, priority = 3, dependsOnMethods = "testCreateBooking")
@@ -95,28 +106,32 @@ public class BookingCRUDTests extends BaseTest {
     @Description("Verify that an existing booking can be updated partially")
     @Severity(SeverityLevel.NORMAL)
     public void testUpdateBookingPartially() {
-        // Get current booking details first
-        Response getCurrentResponse = RestAssuredHelper.getBaseRequestSpec()
-                .pathParam("id", createdBookingId)
-                .when()
-                .get(ApiEndpoints.BOOKING_BY_ID);
-        
-        Booking currentBooking = getCurrentResponse.as(Booking.class);
-        
-        // Update only the first name
-        Booking partialUpdate = TestDataGenerator.updateBookingFields(currentBooking, "firstname", "UpdatedFirstName");
-        
-        RestAssuredHelper.getAuthenticatedRequestSpec(getAuthToken())
-                .body(partialUpdate)
-                .pathParam("id", createdBookingId)
-                .when()
-                .patch(ApiEndpoints.BOOKING_BY_ID)
-                .then()
-                .statusCode(200)
-                .body("firstname", equalTo("UpdatedFirstName"))
-                .body("lastname", equalTo(currentBooking.getLastName())); // Should remain unchanged
-        
-        logger.info("Successfully partially updated booking with ID: {}", createdBookingId);
+        try (BookingFixturePool.Lease lease = leaseBooking(Access.EXCLUSIVE)) {
+            int bookingId = lease.getBookingId();
+            
+            // Get current booking details first
+            Response getCurrentResponse = api.getBaseRequestSpec()
+                    .pathParam("id", bookingId)
+                    .when()
+                    .get(ApiEndpoints.BOOKING_BY_ID);
+            
+            Booking currentBooking = getCurrentResponse.as(Booking.class);
+            
+            // Update only the first name
+            Booking partialUpdate = TestDataGenerator.updateBookingFields(currentBooking, "firstname", "UpdatedFirstName");
+            
+            api.getAuthenticatedRequestSpec(getAuthToken())
+                    .body(partialUpdate)
+                    .pathParam("id", bookingId)
+                    .when()
+                    .patch(ApiEndpoints.BOOKING_BY_ID)
+                    .then()
+                    .statusCode(200)
+                    .body("firstname", equalTo("UpdatedFirstName"))
+                    .body("lastname", equalTo(currentBooking.getLastName())); // Should remain unchanged
+            
+            logger.info("Successfully partially updated booking with ID: {}", bookingId);
+        }
     }
     
     @Test(groups = {"regression"}, priority = 4)
@@ -126,7 +141,7 @@ public class BookingCRUDTests extends BaseTest {
     public void testUpdateBookingWithoutAuth() {
         Booking updatedBooking = TestDataGenerator.generateRandomBooking();
         
-        RestAssuredHelper.getBaseRequestSpec()
+        api.getBaseRequestSpec()
                 .body(updatedBooking)
                 .pathParam("id", 1)
                 .when()
@@ -145,7 +160,7 @@ public class BookingCRUDTests extends BaseTest {
         Booking updatedBooking = TestDataGenerator.generateRandomBooking();
         int invalidId = 99999;
         
-        RestAssuredHelper.getAuthenticatedRequestSpec(getAuthToken())
+        api.getAuthenticatedRequestSpec(getAuthToken())
                 .body(updatedBooking)
                 .pathParam("id", invalidId)
                 .when()
@@ -161,22 +176,26 @@ public class BookingCRUDTests extends BaseTest {
     @Description("Verify that an existing booking can be deleted")
     @Severity(SeverityLevel.CRITICAL)
     public void testDeleteBooking() {
-        RestAssuredHelper.getAuthenticatedRequestSpec(getAuthToken())
-                .pathParam("id", createdBookingId)
-                .when()
-                .delete(ApiEndpoints.BOOKING_BY_ID)
-                .then()
-                .statusCode(403);
-        
-        // Verify booking is deleted by trying to get it
-        RestAssuredHelper.getBaseRequestSpec()
-                .pathParam("id", createdBookingId)
-                .when()
-                .get(ApiEndpoints.BOOKING_BY_ID)
-                .then()
-                .statusCode(404);
-        
-        logger.info("Successfully deleted booking with ID: {}", createdBookingId);
+        try (BookingFixturePool.Lease lease = leaseBooking(Access.EXCLUSIVE)) {
+            int bookingId = lease.getBookingId();
+            
+            api.getAuthenticatedRequestSpec(getAuthToken())
+                    .pathParam("id", bookingId)
+                    .when()
+                    .delete(ApiEndpoints.BOOKING_BY_ID)
+                    .then()
+                    .statusCode(403);
+            
+            // Verify booking is deleted by trying to get it
+            api.getBaseRequestSpec()
+                    .pathParam("id", bookingId)
+                    .when()
+                    .get(ApiEndpoints.BOOKING_BY_ID)
+                    .then()
+                    .statusCode(404);
+            
+            logger.info("Successfully deleted booking with ID: {}", bookingId);
+        }
     }
     
     @Test(groups = {"regression"}, priority = 7)
@@ -184,7 +203,7 @@ public class BookingCRUDTests extends BaseTest {
     @Description("Verify that deleting a booking without authentication fails")
     @Severity(SeverityLevel.NORMAL)
     public void testDeleteBookingWithoutAuth() {
-        RestAssuredHelper.getBaseRequestSpec()
+        api.getBaseRequestSpec()
                 .pathParam("id", 1)
                 .when()
                 .delete(ApiEndpoints.BOOKING_BY_ID)
@@ -201,7 +220,7 @@ public class BookingCRUDTests extends BaseTest {
     public void testDeleteNonExistentBooking() {
         int invalidId = 99999;
         
-        RestAssuredHelper.getAuthenticatedRequestSpec(getAuthToken())
+        api.getAuthenticatedRequestSpec(getAuthToken())
                 .pathParam("id", invalidId)
                 .when()
                 .delete(ApiEndpoints.BOOKING_BY_ID)
@@ -218,7 +237,7 @@ public class BookingCRUDTests extends BaseTest {
     public void testCreateBookingWithInvalidData() {
         Booking invalidBooking = TestDataGenerator.generateInvalidBooking();
         
-        RestAssuredHelper.getBaseRequestSpec()
+        api.getBaseRequestSpec()
                 .body(invalidBooking)
                 .when()
                 .post(ApiEndpoints.BOOKING)
@@ -240,7 +259,7 @@ public class BookingCRUDTests extends BaseTest {
         Booking booking = TestDataGenerator.generateRandomBooking();
         booking.setFirstName(null);
         
-        RestAssuredHelper.getBaseRequestSpec()
+        api.getBaseRequestSpec()
                 .body(booking)
                 .when()
                 .post(ApiEndpoints.BOOKING)
@@ -258,7 +277,7 @@ public class BookingCRUDTests extends BaseTest {
         Booking booking = TestDataGenerator.generateRandomBooking();
         booking.setFirstName("");
         
-        RestAssuredHelper.getBaseRequestSpec()
+        api.getBaseRequestSpec()
                 .body(booking)
                 .when()
                 .post(ApiEndpoints.BOOKING)
@@ -278,7 +297,7 @@ public class BookingCRUDTests extends BaseTest {
         booking.setFirstName(longName);
         booking.setLastName(longName);
         
-        RestAssuredHelper.getBaseRequestSpec()
+        api.getBaseRequestSpec()
                 .body(booking)
                 .when()
                 .post(ApiEndpoints.BOOKING)
@@ -298,7 +317,7 @@ public class BookingCRUDTests extends BaseTest {
         booking.setLastName("O'Connor-Smith");
         booking.setAdditionalNeeds("café & wifi, 24/7 service");
         
-        Response response = RestAssuredHelper.getBaseRequestSpec()
+        Response response = api.getBaseRequestSpec()
                 .body(booking)
                 .when()
                 .post(ApiEndpoints.BOOKING)
@@ -322,7 +341,7 @@ public class BookingCRUDTests extends BaseTest {
         Booking booking = TestDataGenerator.generateRandomBooking();
         booking.setTotalPrice(-100);
         
-        RestAssuredHelper.getBaseRequestSpec()
+        api.getBaseRequestSpec()
                 .body(booking)
                 .when()
                 .post(ApiEndpoints.BOOKING)
@@ -340,7 +359,7 @@ public class BookingCRUDTests extends BaseTest {
         Booking booking = TestDataGenerator.generateRandomBooking();
         booking.setTotalPrice(0);
         
-        RestAssuredHelper.getBaseRequestSpec()
+        api.getBaseRequestSpec()
                 .body(booking)
                 .when()
                 .post(ApiEndpoints.BOOKING)
@@ -359,7 +378,7 @@ public class BookingCRUDTests extends BaseTest {
         Booking booking = TestDataGenerator.generateRandomBooking();
         booking.setTotalPrice(Integer.MAX_VALUE);
         
-        RestAssuredHelper.getBaseRequestSpec()
+        api.getBaseRequestSpec()
                 .body(booking)
                 .when()
                 .post(ApiEndpoints.BOOKING)
@@ -380,7 +399,7 @@ public class BookingCRUDTests extends BaseTest {
     public void testCreateBookingWithInvalidDateRange() {
         Booking booking = TestDataGenerator.generateBookingWithInvalidDates();
         
-        RestAssuredHelper.getBaseRequestSpec()
+        api.getBaseRequestSpec()
                 .body(booking)
                 .when()
                 .post(ApiEndpoints.BOOKING)
@@ -397,7 +416,7 @@ public class BookingCRUDTests extends BaseTest {
     public void testCreateBookingWithSameDate() {
         Booking booking = TestDataGenerator.generateBookingWithSameDates();
         
-        Response response = RestAssuredHelper.getBaseRequestSpec()
+        Response response = api.getBaseRequestSpec()
                 .body(booking)
                 .when()
                 .post(ApiEndpoints.BOOKING)
@@ -420,7 +439,7 @@ public class BookingCRUDTests extends BaseTest {
     public void testCreateBookingWithPastDates() {
         Booking booking = TestDataGenerator.generateBookingWithPastDates();
         
-        RestAssuredHelper.getBaseRequestSpec()
+        api.getBaseRequestSpec()
                 .body(booking)
                 .when()
                 .post(ApiEndpoints.BOOKING)
@@ -437,7 +456,7 @@ public class BookingCRUDTests extends BaseTest {
     public void testCreateBookingWithFutureDates() {
         Booking booking = TestDataGenerator.generateBookingWithFutureDates();
         
-        RestAssuredHelper.getBaseRequestSpec()
+        api.getBaseRequestSpec()
                 .body(booking)
                 .when()
                 .post(ApiEndpoints.BOOKING)
@@ -461,7 +480,7 @@ public class BookingCRUDTests extends BaseTest {
         Booking booking = TestDataGenerator.generateRandomBooking();
         booking.setAdditionalNeeds(null);
         
-        RestAssuredHelper.getBaseRequestSpec()
+        api.getBaseRequestSpec()
                 .body(booking)
                 .when()
                 .post(ApiEndpoints.BOOKING)
@@ -478,30 +497,24 @@ public class BookingCRUDTests extends BaseTest {
     @Description("Verify updating booking with only required fields")
     @Severity(SeverityLevel.NORMAL)
     public void testUpdateBookingMinimalFields() {
-        // First create a booking
-        Booking originalBooking = TestDataGenerator.generateRandomBooking();
-        
-        Response createResponse = RestAssuredHelper.getBaseRequestSpec()
-                .body(originalBooking)
-                .when()
-                .post(ApiEndpoints.BOOKING);
-        
-        Integer bookingId = createResponse.then().extract().path("bookingid");
-        
-        // Update with minimal required fields
-        Booking minimalBooking = TestDataGenerator.generateMinimalBooking();
-        
-        RestAssuredHelper.getAuthenticatedRequestSpec(getAuthToken())
-                .body(minimalBooking)
-                .pathParam("id", bookingId)
-                .when()
-                .put(ApiEndpoints.BOOKING_BY_ID)
-                .then()
-                .statusCode(200)
-                .body("firstname", equalTo(minimalBooking.getFirstName()))
-                .body("lastname", equalTo(minimalBooking.getLastName()));
-        
-        logger.info("Successfully updated booking with minimal fields");
+        try (BookingFixturePool.Lease lease = leaseBooking(Access.EXCLUSIVE)) {
+            int bookingId = lease.getBookingId();
+            
+            // Update with minimal required fields
+            Booking minimalBooking = TestDataGenerator.generateMinimalBooking();
+            
+            api.getAuthenticatedRequestSpec(getAuthToken())
+                    .body(minimalBooking)
+                    .pathParam("id", bookingId)
+                    .when()
+                    .put(ApiEndpoints.BOOKING_BY_ID)
+                    .then()
+                    .statusCode(200)
+                    .body("firstname", equalTo(minimalBooking.getFirstName()))
+                    .body("lastname", equalTo(minimalBooking.getLastName()));
+            
+            logger.info("Successfully updated booking with minimal fields");
+        }
     }
     
     @Test(groups = {"regression"}, priority = 23)
@@ -509,42 +522,39 @@ public class BookingCRUDTests extends BaseTest {
     @Description("Verify concurrent booking updates")
     @Severity(SeverityLevel.NORMAL)
     public void testConcurrentBookingUpdates() {
-        // Create a booking first
-        Booking originalBooking = TestDataGenerator.generateRandomBooking();
-        
-        Response createResponse = RestAssuredHelper.getBaseRequestSpec()
-                .body(originalBooking)
-                .when()
-                .post(ApiEndpoints.BOOKING);
-        
-        Integer bookingId = createResponse.then().extract().path("bookingid");
-        
-        // Perform two concurrent updates
-        Booking update1 = TestDataGenerator.generateRandomBooking();
-        update1.setFirstName("FirstUpdate");
-        
-        Booking update2 = TestDataGenerator.generateRandomBooking();
-        update2.setFirstName("SecondUpdate");
-        
-        // Both updates should succeed (API doesn't have locking)
-        RestAssuredHelper.getAuthenticatedRequestSpec(getAuthToken())
-                .body(update1)
-                .pathParam("id", bookingId)
-                .when()
-                .put(ApiEndpoints.BOOKING_BY_ID)
-                .then()
-                .statusCode(200);
-        
-        RestAssuredHelper.getAuthenticatedRequestSpec(getAuthToken())
-                .body(update2)
-                .pathParam("id", bookingId)
-                .when()
-                .put(ApiEndpoints.BOOKING_BY_ID)
-                .then()
-                .statusCode(200)
-                .body("firstname", equalTo("SecondUpdate"));
-        
-        logger.info("Successfully tested concurrent booking updates");
+        try (BookingFixturePool.Lease lease = leaseBooking(Access.EXCLUSIVE)) {
+            int bookingId = lease.getBookingId();
+            
+            // Perform two concurrent updates
+            Booking update1 = TestDataGenerator.generateRandomBooking();
+            update1.setFirstName("FirstUpdate");
+            
+            Booking update2 = TestDataGenerator.generateRandomBooking();
+            update2.setFirstName("SecondUpdate");
+            
+            // Both updates should succeed (API doesn't have locking)
+            String token = getAuthToken();
+            List<Response> responses = ConcurrentRunner.invokeAll(Stream.of(update1, update2)
+                    .map(update -> (Callable<Response>) () -> api.getAuthenticatedRequestSpec(token)
+                            .body(update)
+                            .pathParam("id", bookingId)
+                            .when()
+                            .put(ApiEndpoints.BOOKING_BY_ID))
+                    .collect(Collectors.toList()));
+            
+            responses.forEach(response -> response.then().statusCode(200));
+            
+            // Without locking one of the two updates persisted; which one depends on arrival order
+            api.getBaseRequestSpec()
+                    .pathParam("id", bookingId)
+                    .when()
+                    .get(ApiEndpoints.BOOKING_BY_ID)
+                    .then()
+                    .statusCode(200)
+                    .body("firstname", anyOf(equalTo("FirstUpdate"), equalTo("SecondUpdate")));
+            
+            logger.info("Successfully tested concurrent booking updates");
+        }
     }
     
     @Test(groups = {"regression"}, priority = 24)
@@ -557,7 +567,7 @@ public class BookingCRUDTests extends BaseTest {
         booking.setLastName("Müller"); // German umlaut
         booking.setAdditionalNeeds("需要早餐 🍳"); // Mixed unicode and emoji
         
-        Response response = RestAssuredHelper.getBaseRequestSpec()
+        Response response = api.getBaseRequestSpec()
                 .body(booking)
                 .when()
                 .post(ApiEndpoints.BOOKING)
@@ -578,29 +588,23 @@ public class BookingCRUDTests extends BaseTest {
     @Description("Verify booking update with large payload")
     @Severity(SeverityLevel.MINOR)
     public void testUpdateBookingWithLargePayload() {
-        // Create a booking first
-        Booking originalBooking = TestDataGenerator.generateRandomBooking();
-        
-        Response createResponse = RestAssuredHelper.getBaseRequestSpec()
-                .body(originalBooking)
-                .when()
-                .post(ApiEndpoints.BOOKING);
-        
-        Integer bookingId = createResponse.then().extract().path("bookingid");
-        
-        // Update with large additional needs field
-        Booking largeBooking = TestDataGenerator.generateRandomBooking();
-        largeBooking.setAdditionalNeeds("X".repeat(1000)); // 1000 character string
-        
-        RestAssuredHelper.getAuthenticatedRequestSpec(getAuthToken())
-                .body(largeBooking)
-                .pathParam("id", bookingId)
-                .when()
-                .put(ApiEndpoints.BOOKING_BY_ID)
-                .then()
-                .statusCode(anyOf(is(200), is(400), is(413))); // Could be payload too large
-        
-        logger.info("Tested booking update with large payload");
+        try (BookingFixturePool.Lease lease = leaseBooking(Access.EXCLUSIVE)) {
+            int bookingId = lease.getBookingId();
+            
+            // Update with large additional needs field
+            Booking largeBooking = TestDataGenerator.generateRandomBooking();
+            largeBooking.setAdditionalNeeds("X".repeat(1000)); // 1000 character string
+            
+            api.getAuthenticatedRequestSpec(getAuthToken())
+                    .body(largeBooking)
+                    .pathParam("id", bookingId)
+                    .when()
+                    .put(ApiEndpoints.BOOKING_BY_ID)
+                    .then()
+                    .statusCode(anyOf(is(200), is(400), is(413))); // Could be payload too large
+            
+            logger.info("Tested booking update with large payload");
+        }
     }
     
     // ======================
@@ -614,7 +618,7 @@ public class BookingCRUDTests extends BaseTest {
     public void testCreateBookingWithSQLInjection() {
         Booking sqlInjectionBooking = TestDataGenerator.generateBookingWithSQLInjection();
         
-        Response response = RestAssuredHelper.getBaseRequestSpec()
+        Response response = api.getBaseRequestSpec()
                 .body(sqlInjectionBooking)
                 .when()
                 .post(ApiEndpoints.BOOKING)
@@ -638,7 +642,7 @@ public class BookingCRUDTests extends BaseTest {
     public void testCreateBookingWithExtremeBoundaryValues() {
         Booking extremeBooking = TestDataGenerator.generateBookingWithExtremeValues();
         
-        RestAssuredHelper.getBaseRequestSpec()
+        api.getBaseRequestSpec()
                 .body(extremeBooking)
                 .when()
                 .post(ApiEndpoints.BOOKING)
@@ -663,7 +667,7 @@ public class BookingCRUDTests extends BaseTest {
             Booking booking = TestDataGenerator.generateRandomBooking();
             booking.setFirstName("RapidTest" + i);
             
-            RestAssuredHelper.getBaseRequestSpec()
+            api.getBaseRequestSpec()
                     .body(booking)
                     .when()
                     .post(ApiEndpoints.BOOKING)
@@ -689,7 +693,7 @@ public class BookingCRUDTests extends BaseTest {
         booking.setFirstName("12345");
         booking.setLastName("67890");
         
-        RestAssuredHelper.getBaseRequestSpec()
+        api.getBaseRequestSpec()
                 .body(booking)
                 .when()
                 .post(ApiEndpoints.BOOKING)
@@ -711,7 +715,7 @@ public class BookingCRUDTests extends BaseTest {
         booking.setLastName("\t\t\t");
         booking.setAdditionalNeeds("\n\n\n");
         
-        RestAssuredHelper.getBaseRequestSpec()
+        api.getBaseRequestSpec()
                 .body(booking)
                 .when()
                 .post(ApiEndpoints.BOOKING)
@@ -726,48 +730,42 @@ public class BookingCRUDTests extends BaseTest {
     @Description("Verify partial update preserves unchanged fields")
     @Severity(SeverityLevel.NORMAL)
     public void testPartialUpdatePreservesFields() {
-        // Create a booking first
-        Booking originalBooking = TestDataGenerator.generateRandomBooking();
-        
-        Response createResponse = RestAssuredHelper.getBaseRequestSpec()
-                .body(originalBooking)
-                .when()
-                .post(ApiEndpoints.BOOKING);
-        
-        Integer bookingId = createResponse.then().extract().path("bookingid");
-        String originalLastName = createResponse.then().extract().path("booking.lastname");
-        Integer originalPrice = createResponse.then().extract().path("booking.totalprice");
-        
-        // Get current booking details
-        Response getCurrentResponse = RestAssuredHelper.getBaseRequestSpec()
-                .pathParam("id", bookingId)
-                .when()
-                .get(ApiEndpoints.BOOKING_BY_ID);
-        
-        Booking currentBooking = getCurrentResponse.as(Booking.class);
-        
-        // Update only first name using PATCH
-        Booking partialUpdate = new Booking(
-                "UpdatedName",
-                currentBooking.getLastName(),
-                currentBooking.getTotalPrice(),
-                currentBooking.getDepositPaid(),
-                currentBooking.getBookingDates(),
-                currentBooking.getAdditionalNeeds()
-        );
-        
-        RestAssuredHelper.getAuthenticatedRequestSpec(getAuthToken())
-                .body(partialUpdate)
-                .pathParam("id", bookingId)
-                .when()
-                .patch(ApiEndpoints.BOOKING_BY_ID)
-                .then()
-                .statusCode(200)
-                .body("firstname", equalTo("UpdatedName"))
-                .body("lastname", equalTo(originalLastName)) // Should be preserved
-                .body("totalprice", equalTo(originalPrice)); // Should be preserved
-        
-        logger.info("Successfully verified partial update preserves unchanged fields");
+        try (BookingFixturePool.Lease lease = leaseBooking(Access.EXCLUSIVE)) {
+            int bookingId = lease.getBookingId();
+            String originalLastName = lease.getBooking().getLastName();
+            Integer originalPrice = lease.getBooking().getTotalPrice();
+            
+            // Get current booking details
+            Response getCurrentResponse = api.getBaseRequestSpec()
+                    .pathParam("id", bookingId)
+                    .when()
+                    .get(ApiEndpoints.BOOKING_BY_ID);
+            
+            Booking currentBooking = getCurrentResponse.as(Booking.class);
+            
+            // Update only first name using PATCH
+            Booking partialUpdate = new Booking(
+                    "UpdatedName",
+                    currentBooking.getLastName(),
+                    currentBooking.getTotalPrice(),
+                    currentBooking.getDepositPaid(),
+                    currentBooking.getBookingDates(),
+                    currentBooking.getAdditionalNeeds()
+            );
+            
+            api.getAuthenticatedRequestSpec(getAuthToken())
+                    .body(partialUpdate)
+                    .pathParam("id", bookingId)
+                    .when()
+                    .patch(ApiEndpoints.BOOKING_BY_ID)
+                    .then()
+                    .statusCode(200)
+                    .body("firstname", equalTo("UpdatedName"))
+                    .body("lastname", equalTo(originalLastName)) // Should be preserved
+                    .body("totalprice", equalTo(originalPrice)); // Should be preserved
+            
+            logger.info("Successfully verified partial update preserves unchanged fields");
+        }
     }
     
     @Test(groups = {"regression"}, priority = 32)
@@ -778,7 +776,7 @@ public class BookingCRUDTests extends BaseTest {
         Booking booking = TestDataGenerator.generateRandomBooking();
         booking.setAdditionalNeeds("X".repeat(10000)); // 10,000 characters
         
-        RestAssuredHelper.getBaseRequestSpec()
+        api.getBaseRequestSpec()
                 .body(booking)
                 .when()
                 .post(ApiEndpoints.BOOKING)
@@ -799,7 +797,7 @@ public class BookingCRUDTests extends BaseTest {
     public void testCreateBookingWithWrongHttpMethod() {
         Booking booking = TestDataGenerator.generateRandomBooking();
         
-        RestAssuredHelper.getBaseRequestSpec()
+        api.getBaseRequestSpec()
                 .body(booking)
                 .when()
                 .get(ApiEndpoints.BOOKING) // Wrong method
@@ -816,7 +814,7 @@ public class BookingCRUDTests extends BaseTest {
     public void testUpdateBookingWithWrongHttpMethod() {
         Booking booking = TestDataGenerator.generateRandomBooking();
         
-        RestAssuredHelper.getAuthenticatedRequestSpec(getAuthToken())
+        api.getAuthenticatedRequestSpec(getAuthToken())
                 .body(booking)
                 .pathParam("id", 1)
                 .when()
@@ -838,7 +836,7 @@ public class BookingCRUDTests extends BaseTest {
     public void testCreateBookingWithWrongContentType() {
         Booking booking = TestDataGenerator.generateRandomBooking();
         
-        RestAssuredHelper.getBaseRequestSpec()
+        api.getBaseRequestSpec()
                 .contentType("text/plain") // Wrong content type
                 .body(booking)
                 .when()
@@ -856,7 +854,7 @@ public class BookingCRUDTests extends BaseTest {
     public void testCreateBookingWithMalformedJson() {
         String malformedJson = "{ \"firstname\": \"John\", \"lastname\": \"Doe\", invalid_json }";
         
-        RestAssuredHelper.getBaseRequestSpec()
+        api.getBaseRequestSpec()
                 .body(malformedJson)
                 .when()
                 .post(ApiEndpoints.BOOKING)
@@ -871,7 +869,7 @@ public class BookingCRUDTests extends BaseTest {
     @Description("Verify booking creation with empty JSON object")
     @Severity(SeverityLevel.NORMAL)
     public void testCreateBookingWithEmptyJson() {
-        RestAssuredHelper.getBaseRequestSpec()
+        api.getBaseRequestSpec()
                 .body("{}")
                 .when()
                 .post(ApiEndpoints.BOOKING)
@@ -892,7 +890,7 @@ public class BookingCRUDTests extends BaseTest {
     public void testCreateBookingWithoutAcceptHeader() {
         Booking booking = TestDataGenerator.generateRandomBooking();
         
-        RestAssuredHelper.getBaseRequestSpec()
+        api.getBaseRequestSpec()
                 .contentType("application/json")
                 .header("Accept", "") // Remove accept header
                 .body(booking)
@@ -909,29 +907,23 @@ public class BookingCRUDTests extends BaseTest {
     @Description("Verify booking update with custom headers")
     @Severity(SeverityLevel.MINOR)
     public void testUpdateBookingWithCustomHeaders() {
-        // Create a booking first
-        Booking originalBooking = TestDataGenerator.generateRandomBooking();
-        
-        Response createResponse = RestAssuredHelper.getBaseRequestSpec()
-                .body(originalBooking)
-                .when()
-                .post(ApiEndpoints.BOOKING);
-        
-        Integer bookingId = createResponse.then().extract().path("bookingid");
-        
-        Booking updatedBooking = TestDataGenerator.generateRandomBooking();
-        
-        RestAssuredHelper.getAuthenticatedRequestSpec(getAuthToken())
-                .header("X-Custom-Header", "test-value")
-                .header("User-Agent", "API-Test-Suite/1.0")
-                .body(updatedBooking)
-                .pathParam("id", bookingId)
-                .when()
-                .put(ApiEndpoints.BOOKING_BY_ID)
-                .then()
-                .statusCode(200); // Should work with custom headers
-        
-        logger.info("Successfully updated booking with custom headers");
+        try (BookingFixturePool.Lease lease = leaseBooking(Access.EXCLUSIVE)) {
+            int bookingId = lease.getBookingId();
+            
+            Booking updatedBooking = TestDataGenerator.generateRandomBooking();
+            
+            api.getAuthenticatedRequestSpec(getAuthToken())
+                    .header("X-Custom-Header", "test-value")
+                    .header("User-Agent", "API-Test-Suite/1.0")
+                    .body(updatedBooking)
+                    .pathParam("id", bookingId)
+                    .when()
+                    .put(ApiEndpoints.BOOKING_BY_ID)
+                    .then()
+                    .statusCode(200); // Should work with custom headers
+            
+            logger.info("Successfully updated booking with custom headers");
+        }
     }
     
     // ======================
@@ -946,7 +938,7 @@ public class BookingCRUDTests extends BaseTest {
         // Step 1: Create booking
         Booking newBooking = TestDataGenerator.generateRandomBooking();
         
-        Response createResponse = RestAssuredHelper.getBaseRequestSpec()
+        Response createResponse = api.getBaseRequestSpec()
                 .body(newBooking)
                 .when()
                 .post(ApiEndpoints.BOOKING)
@@ -960,7 +952,7 @@ public class BookingCRUDTests extends BaseTest {
         logger.info("Step 1: Created booking with ID: {}", bookingId);
         
         // Step 2: Read booking
-        RestAssuredHelper.getBaseRequestSpec()
+        api.getBaseRequestSpec()
                 .pathParam("id", bookingId)
                 .when()
                 .get(ApiEndpoints.BOOKING_BY_ID)
@@ -975,7 +967,7 @@ public class BookingCRUDTests extends BaseTest {
         Booking updatedBooking = TestDataGenerator.generateRandomBooking();
         updatedBooking.setFirstName("WorkflowUpdated");
         
-        RestAssuredHelper.getAuthenticatedRequestSpec(getAuthToken())
+        api.getAuthenticatedRequestSpec(getAuthToken())
                 .body(updatedBooking)
                 .pathParam("id", bookingId)
                 .when()
@@ -987,7 +979,7 @@ public class BookingCRUDTests extends BaseTest {
         logger.info("Step 3: Successfully updated booking");
         
         // Step 4: Verify update
-        RestAssuredHelper.getBaseRequestSpec()
+        api.getBaseRequestSpec()
                 .pathParam("id", bookingId)
                 .when()
                 .get(ApiEndpoints.BOOKING_BY_ID)
@@ -998,7 +990,7 @@ public class BookingCRUDTests extends BaseTest {
         logger.info("Step 4: Verified booking update");
         
         // Step 5: Delete booking
-        RestAssuredHelper.getAuthenticatedRequestSpec(getAuthToken())
+        api.getAuthenticatedRequestSpec(getAuthToken())
                 .pathParam("id", bookingId)
                 .when()
                 .delete(ApiEndpoints.BOOKING_BY_ID)
@@ -1008,7 +1000,7 @@ public class BookingCRUDTests extends BaseTest {
         logger.info("Step 5: Successfully deleted booking");
         
         // Step 6: Verify deletion
-        RestAssuredHelper.getBaseRequestSpec()
+        api.getBaseRequestSpec()
                 .pathParam("id", bookingId)
                 .when()
                 .get(ApiEndpoints.BOOKING_BY_ID)
@@ -1023,98 +1015,77 @@ public class BookingCRUDTests extends BaseTest {
     @Description("Verify multiple bookings can be created and managed independently")
     @Severity(SeverityLevel.NORMAL)
     public void testMultipleBookingsIndependence() {
-        // Create multiple bookings
-        Booking booking1 = TestDataGenerator.generateRandomBooking();
-        booking1.setFirstName("MultiTest1");
-        
-        Booking booking2 = TestDataGenerator.generateRandomBooking();
-        booking2.setFirstName("MultiTest2");
-        
-        Booking booking3 = TestDataGenerator.generateRandomBooking();
-        booking3.setFirstName("MultiTest3");
-        
-        // Create all bookings
-        Response response1 = RestAssuredHelper.getBaseRequestSpec()
-                .body(booking1)
-                .when()
-                .post(ApiEndpoints.BOOKING);
-        Integer id1 = response1.then().extract().path("bookingid");
-        
-        Response response2 = RestAssuredHelper.getBaseRequestSpec()
-                .body(booking2)
-                .when()
-                .post(ApiEndpoints.BOOKING);
-        Integer id2 = response2.then().extract().path("bookingid");
-        
-        Response response3 = RestAssuredHelper.getBaseRequestSpec()
-                .body(booking3)
-                .when()
-                .post(ApiEndpoints.BOOKING);
-        Integer id3 = response3.then().extract().path("bookingid");
-        
-        // Verify all bookings exist independently
-        RestAssuredHelper.getBaseRequestSpec()
-                .pathParam("id", id1)
-                .when()
-                .get(ApiEndpoints.BOOKING_BY_ID)
-                .then()
-                .statusCode(200)
-                .body("firstname", equalTo("MultiTest1"));
-        
-        RestAssuredHelper.getBaseRequestSpec()
-                .pathParam("id", id2)
-                .when()
-                .get(ApiEndpoints.BOOKING_BY_ID)
-                .then()
-                .statusCode(200)
-                .body("firstname", equalTo("MultiTest2"));
-        
-        RestAssuredHelper.getBaseRequestSpec()
-                .pathParam("id", id3)
-                .when()
-                .get(ApiEndpoints.BOOKING_BY_ID)
-                .then()
-                .statusCode(200)
-                .body("firstname", equalTo("MultiTest3"));
-        
-        // Update one booking and verify others remain unchanged
-        Booking updatedBooking = TestDataGenerator.generateRandomBooking();
-        updatedBooking.setFirstName("MultiTestUpdated");
-        
-        RestAssuredHelper.getAuthenticatedRequestSpec(getAuthToken())
-                .body(updatedBooking)
-                .pathParam("id", id2)
-                .when()
-                .put(ApiEndpoints.BOOKING_BY_ID)
-                .then()
-                .statusCode(200);
-        
-        // Verify only id2 was updated, others remain unchanged
-        RestAssuredHelper.getBaseRequestSpec()
-                .pathParam("id", id1)
-                .when()
-                .get(ApiEndpoints.BOOKING_BY_ID)
-                .then()
-                .statusCode(200)
-                .body("firstname", equalTo("MultiTest1")); // Unchanged
-        
-        RestAssuredHelper.getBaseRequestSpec()
-                .pathParam("id", id2)
-                .when()
-                .get(ApiEndpoints.BOOKING_BY_ID)
-                .then()
-                .statusCode(200)
-                .body("firstname", equalTo("MultiTestUpdated")); // Changed
-        
-        RestAssuredHelper.getBaseRequestSpec()
-                .pathParam("id", id3)
-                .when()
-                .get(ApiEndpoints.BOOKING_BY_ID)
-                .then()
-                .statusCode(200)
-                .body("firstname", equalTo("MultiTest3")); // Unchanged
-        
-        logger.info("Successfully verified independence of multiple bookings");
+        try (BookingFixturePool.Lease lease1 = leaseBooking(Access.EXCLUSIVE);
+             BookingFixturePool.Lease lease2 = leaseBooking(Access.EXCLUSIVE);
+             BookingFixturePool.Lease lease3 = leaseBooking(Access.EXCLUSIVE)) {
+            int id1 = lease1.getBookingId();
+            int id2 = lease2.getBookingId();
+            int id3 = lease3.getBookingId();
+            
+            // Verify all bookings exist independently
+            api.getBaseRequestSpec()
+                    .pathParam("id", id1)
+                    .when()
+                    .get(ApiEndpoints.BOOKING_BY_ID)
+                    .then()
+                    .statusCode(200)
+                    .body("firstname", equalTo(lease1.getBooking().getFirstName()));
+            
+            api.getBaseRequestSpec()
+                    .pathParam("id", id2)
+                    .when()
+                    .get(ApiEndpoints.BOOKING_BY_ID)
+                    .then()
+                    .statusCode(200)
+                    .body("firstname", equalTo(lease2.getBooking().getFirstName()));
+            
+            api.getBaseRequestSpec()
+                    .pathParam("id", id3)
+                    .when()
+                    .get(ApiEndpoints.BOOKING_BY_ID)
+                    .then()
+                    .statusCode(200)
+                    .body("firstname", equalTo(lease3.getBooking().getFirstName()));
+            
+            // Update one booking and verify others remain unchanged
+            Booking updatedBooking = TestDataGenerator.generateRandomBooking();
+            updatedBooking.setFirstName("MultiTestUpdated");
+            
+            api.getAuthenticatedRequestSpec(getAuthToken())
+                    .body(updatedBooking)
+                    .pathParam("id", id2)
+                    .when()
+                    .put(ApiEndpoints.BOOKING_BY_ID)
+                    .then()
+                    .statusCode(200);
+            
+            // Verify only id2 was updated, others remain unchanged
+            api.getBaseRequestSpec()
+                    .pathParam("id", id1)
+                    .when()
+                    .get(ApiEndpoints.BOOKING_BY_ID)
+                    .then()
+                    .statusCode(200)
+                    .body("firstname", equalTo(lease1.getBooking().getFirstName())); // Unchanged
+            
+            api.getBaseRequestSpec()
+                    .pathParam("id", id2)
+                    .when()
+                    .get(ApiEndpoints.BOOKING_BY_ID)
+                    .then()
+                    .statusCode(200)
+                    .body("firstname", equalTo("MultiTestUpdated")); // Changed
+            
+            api.getBaseRequestSpec()
+                    .pathParam("id", id3)
+                    .when()
+                    .get(ApiEndpoints.BOOKING_BY_ID)
+                    .then()
+                    .statusCode(200)
+                    .body("firstname", equalTo(lease3.getBooking().getFirstName())); // Unchanged
+            
+            logger.info("Successfully verified independence of multiple bookings");
+        }
     }
     
     // ======================
@@ -1128,7 +1099,7 @@ public class BookingCRUDTests extends BaseTest {
     public void testBookingCreationResponseValidation() {
         Booking booking = TestDataGenerator.generateRandomBooking();
         
-        RestAssuredHelper.getBaseRequestSpec()
+        api.getBaseRequestSpec()
                 .body(booking)
                 .when()
                 .post(ApiEndpoints.BOOKING)
@@ -1153,29 +1124,24 @@ public class BookingCRUDTests extends BaseTest {
     
     @Test(groups = {"regression"}, priority = 43)
     @Story("Get Booking")
-    @Description("Verify response time for booking retrieval is acceptable")
+    @Description("Verify booking retrieval meets its p95 and p99 latency targets")
     @Severity(SeverityLevel.MINOR)
     public void testBookingRetrievalResponseTime() {
-        // Create a booking first
-        Booking booking = TestDataGenerator.generateRandomBooking();
-        
-        Response createResponse = RestAssuredHelper.getBaseRequestSpec()
-                .body(booking)
-                .when()
-                .post(ApiEndpoints.BOOKING);
-        
-        Integer bookingId = createResponse.then().extract().path("bookingid");
-        
-        // Test response time
-        RestAssuredHelper.getBaseRequestSpec()
-                .pathParam("id", bookingId)
-                .when()
-                .get(ApiEndpoints.BOOKING_BY_ID)
-                .then()
-                .statusCode(200)
-                .time(lessThan(5000L)); // Response should be under 5 seconds
-        
-        logger.info("Booking retrieval response time is acceptable");
+        try (BookingFixturePool.Lease lease = leaseBooking(Access.SHARED)) {
+            int bookingId = lease.getBookingId();
+            
+            // Test response time percentiles rather than a single sample
+            LatencySlo.forEndpoint(ApiEndpoints.BOOKING_BY_ID)
+                    .context(api)
+                    .pathParam("id", bookingId)
+                    .warmup(20)
+                    .samples(200)
+                    .p95Below(Duration.ofSeconds(2))
+                    .p99Below(Duration.ofSeconds(5))
+                    .verify();
+            
+            logger.info("Booking retrieval response time is acceptable");
+        }
     }
     
     // ======================
@@ -1187,7 +1153,7 @@ public class BookingCRUDTests extends BaseTest {
     @Description("Verify handling of non-numeric booking ID")
     @Severity(SeverityLevel.NORMAL)
     public void testGetBookingWithNonNumericId() {
-        RestAssuredHelper.getBaseRequestSpec()
+        api.getBaseRequestSpec()
                 .pathParam("id", "abc123")
                 .when()
                 .get(ApiEndpoints.BOOKING_BY_ID)
@@ -1204,7 +1170,7 @@ public class BookingCRUDTests extends BaseTest {
     public void testUpdateBookingWithInvalidJsonStructure() {
         String invalidJsonStructure = "{ \"invalidField\": \"value\", \"anotherInvalid\": 123 }";
         
-        RestAssuredHelper.getAuthenticatedRequestSpec(getAuthToken())
+        api.getAuthenticatedRequestSpec(getAuthToken())
                 .body(invalidJsonStructure)
                 .pathParam("id", 1)
                 .when()
@@ -1224,7 +1190,7 @@ public class BookingCRUDTests extends BaseTest {
     @Description("Verify handling of special characters in booking ID path")
     @Severity(SeverityLevel.NORMAL)
     public void testGetBookingWithSpecialCharactersInPath() {
-        RestAssuredHelper.getBaseRequestSpec()
+        api.getBaseRequestSpec()
                 .pathParam("id", "!@#$%")
                 .when()
                 .get(ApiEndpoints.BOOKING_BY_ID)
@@ -1239,7 +1205,7 @@ public class BookingCRUDTests extends BaseTest {
     @Description("Verify handling of extremely large booking ID")
     @Severity(SeverityLevel.NORMAL)
     public void testGetBookingWithExtremelyLargeId() {
-        RestAssuredHelper.getBaseRequestSpec()
+        api.getBaseRequestSpec()
                 .pathParam("id", String.valueOf(Long.MAX_VALUE))
                 .when()
                 .get(ApiEndpoints.BOOKING_BY_ID)
@@ -1261,7 +1227,7 @@ public class BookingCRUDTests extends BaseTest {
         Booking booking = TestDataGenerator.generateRandomBooking();
         String invalidToken = "invalid_token_12345";
         
-        RestAssuredHelper.getBaseRequestSpec()
+        api.getBaseRequestSpec()
                 .contentType("application/json")
                 .accept("application/json")
                 .cookie("token", invalidToken)
@@ -1280,7 +1246,7 @@ public class BookingCRUDTests extends BaseTest {
     @Description("Verify booking deletion with empty token")
     @Severity(SeverityLevel.NORMAL)
     public void testDeleteBookingWithEmptyToken() {
-        RestAssuredHelper.getBaseRequestSpec()
+        api.getBaseRequestSpec()
                 .contentType("application/json")
                 .accept("application/json")
                 .cookie("token", "")
@@ -1309,7 +1275,7 @@ public class BookingCRUDTests extends BaseTest {
         originalBooking.setTotalPrice(999);
         originalBooking.setDepositPaid(true);
         
-        Response createResponse = RestAssuredHelper.getBaseRequestSpec()
+        Response createResponse = api.getBaseRequestSpec()
                 .body(originalBooking)
                 .when()
                 .post(ApiEndpoints.BOOKING)
@@ -1321,7 +1287,7 @@ public class BookingCRUDTests extends BaseTest {
         Integer bookingId = createResponse.path("bookingid");
         
         // Retrieve and verify data consistency
-        Response getResponse = RestAssuredHelper.getBaseRequestSpec()
+        Response getResponse = api.getBaseRequestSpec()
                 .pathParam("id", bookingId)
                 .when()
                 .get(ApiEndpoints.BOOKING_BY_ID)
@@ -1342,7 +1308,7 @@ public class BookingCRUDTests extends BaseTest {
         
         // Perform multiple reads to ensure consistency
         for (int i = 0; i < 3; i++) {
-            RestAssuredHelper.getBaseRequestSpec()
+            api.getBaseRequestSpec()
                     .pathParam("id", bookingId)
                     .when()
                     .get(ApiEndpoints.BOOKING_BY_ID)
@@ -1366,7 +1332,7 @@ public class BookingCRUDTests extends BaseTest {
     @Description("Verify handling of negative booking ID")
     @Severity(SeverityLevel.NORMAL)
     public void testGetBookingWithNegativeId() {
-        RestAssuredHelper.getBaseRequestSpec()
+        api.getBaseRequestSpec()
                 .pathParam("id", -1)
                 .when()
                 .get(ApiEndpoints.BOOKING_BY_ID)
@@ -1381,7 +1347,7 @@ public class BookingCRUDTests extends BaseTest {
     @Description("Verify handling of zero as booking ID")
     @Severity(SeverityLevel.NORMAL)
     public void testGetBookingWithZeroId() {
-        RestAssuredHelper.getBaseRequestSpec()
+        api.getBaseRequestSpec()
                 .pathParam("id", 0)
                 .when()
                 .get(ApiEndpoints.BOOKING_BY_ID)
@@ -1400,7 +1366,7 @@ public class BookingCRUDTests extends BaseTest {
     @Description("Verify concurrent booking creation doesn't cause conflicts")
     @Severity(SeverityLevel.NORMAL)
     public void testConcurrentBookingCreation() {
-        // Create multiple bookings concurrently (simulated)
+        // Create multiple bookings concurrently
         Booking booking1 = TestDataGenerator.generateRandomBooking();
         booking1.setFirstName("Concurrent1");
         
@@ -1410,26 +1376,21 @@ public class BookingCRUDTests extends BaseTest {
         Booking booking3 = TestDataGenerator.generateRandomBooking();
         booking3.setFirstName("Concurrent3");
         
-        // Create bookings rapidly to simulate concurrency
-        Response response1 = RestAssuredHelper.getBaseRequestSpec()
-                .body(booking1)
-                .when()
-                .post(ApiEndpoints.BOOKING);
-        
-        Response response2 = RestAssuredHelper.getBaseRequestSpec()
-                .body(booking2)
-                .when()
-                .post(ApiEndpoints.BOOKING);
-        
-        Response response3 = RestAssuredHelper.getBaseRequestSpec()
-                .body(booking3)
-                .when()
-                .post(ApiEndpoints.BOOKING);
+        List<Integer> ids = ConcurrentRunner.invokeAll(Stream.of(booking1, booking2, booking3)
+                .map(booking -> (Callable<Integer>) () -> api.getBaseRequestSpec()
+                        .body(booking)
+                        .when()
+                        .post(ApiEndpoints.BOOKING)
+                        .then()
+                        .statusCode(200)
+                        .extract()
+                        .path("bookingid"))
+                .collect(Collectors.toList()));
         
         // Verify all were created successfully
-        Integer id1 = response1.then().statusCode(200).extract().path("bookingid");
-        Integer id2 = response2.then().statusCode(200).extract().path("bookingid");
-        Integer id3 = response3.then().statusCode(200).extract().path("bookingid");
+        Integer id1 = ids.get(0);
+        Integer id2 = ids.get(1);
+        Integer id3 = ids.get(2);
         
         // Verify all IDs are unique
         assertNotEquals(id1, id2);
@@ -1453,7 +1414,7 @@ public class BookingCRUDTests extends BaseTest {
         booking.getBookingDates().setCheckIn(java.time.LocalDate.of(1900, 1, 1));
         booking.getBookingDates().setCheckOut(java.time.LocalDate.of(1900, 1, 2));
         
-        RestAssuredHelper.getBaseRequestSpec()
+        api.getBaseRequestSpec()
                 .body(booking)
                 .when()
                 .post(ApiEndpoints.BOOKING)
@@ -1473,7 +1434,7 @@ public class BookingCRUDTests extends BaseTest {
         booking.getBookingDates().setCheckIn(java.time.LocalDate.of(2999, 12, 30));
         booking.getBookingDates().setCheckOut(java.time.LocalDate.of(2999, 12, 31));
         
-        RestAssuredHelper.getBaseRequestSpec()
+        api.getBaseRequestSpec()
                 .body(booking)
                 .when()
                 .post(ApiEndpoints.BOOKING)
@@ -1496,7 +1457,7 @@ public class BookingCRUDTests extends BaseTest {
         
         // Test 1: Create booking with special characters
         Booking specialBooking = TestDataGenerator.generateBookingWithSpecialCharacters();
-        Response createResponse1 = RestAssuredHelper.getBaseRequestSpec()
+        Response createResponse1 = api.getBaseRequestSpec()
                 .body(specialBooking)
                 .when()
                 .post(ApiEndpoints.BOOKING)
@@ -1511,7 +1472,7 @@ public class BookingCRUDTests extends BaseTest {
         Booking unicodeBooking = TestDataGenerator.generateRandomBooking();
         unicodeBooking.setFirstName("测试");
         unicodeBooking.setLastName("用户");
-        Response createResponse2 = RestAssuredHelper.getBaseRequestSpec()
+        Response createResponse2 = api.getBaseRequestSpec()
                 .body(unicodeBooking)
                 .when()
                 .post(ApiEndpoints.BOOKING)
@@ -1524,7 +1485,7 @@ public class BookingCRUDTests extends BaseTest {
         
         // Test 3: Create minimal booking
         Booking minimalBooking = TestDataGenerator.generateMinimalBooking();
-        Response createResponse3 = RestAssuredHelper.getBaseRequestSpec()
+        Response createResponse3 = api.getBaseRequestSpec()
                 .body(minimalBooking)
                 .when()
                 .post(ApiEndpoints.BOOKING)
@@ -1536,7 +1497,7 @@ public class BookingCRUDTests extends BaseTest {
         logger.info("✓ Created minimal booking: ID {}", minimalId);
         
         // Test 4: Verify all bookings can be retrieved
-        RestAssuredHelper.getBaseRequestSpec()
+        api.getBaseRequestSpec()
                 .pathParam("id", specialId)
                 .when()
                 .get(ApiEndpoints.BOOKING_BY_ID)
@@ -1544,7 +1505,7 @@ public class BookingCRUDTests extends BaseTest {
                 .statusCode(200);
         logger.info("✓ Retrieved special character booking");
         
-        RestAssuredHelper.getBaseRequestSpec()
+        api.getBaseRequestSpec()
                 .pathParam("id", unicodeId)
                 .when()
                 .get(ApiEndpoints.BOOKING_BY_ID)
@@ -1553,7 +1514,7 @@ public class BookingCRUDTests extends BaseTest {
                 .body("firstname", equalTo("测试"));
         logger.info("✓ Retrieved Unicode booking");
         
-        RestAssuredHelper.getBaseRequestSpec()
+        api.getBaseRequestSpec()
                 .pathParam("id", minimalId)
                 .when()
                 .get(ApiEndpoints.BOOKING_BY_ID)
@@ -1565,7 +1526,7 @@ public class BookingCRUDTests extends BaseTest {
         Booking updateData = TestDataGenerator.generateRandomBooking();
         updateData.setFirstName("IntegrationUpdated");
         
-        RestAssuredHelper.getAuthenticatedRequestSpec(getAuthToken())
+        api.getAuthenticatedRequestSpec(getAuthToken())
                 .body(updateData)
                 .pathParam("id", minimalId)
                 .when()
@@ -1576,7 +1537,7 @@ public class BookingCRUDTests extends BaseTest {
         logger.info("✓ Updated minimal booking");
         
         // Test 6: Verify update didn't affect other bookings
-        RestAssuredHelper.getBaseRequestSpec()
+        api.getBaseRequestSpec()
                 .pathParam("id", specialId)
                 .when()
                 .get(ApiEndpoints.BOOKING_BY_ID)
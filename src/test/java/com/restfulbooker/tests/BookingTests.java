@@ -3,8 +3,8 @@ package com.restfulbooker.tests;
 import com.restfulbooker.base.BaseTest;
 import com.restfulbooker.models.Booking;
 import com.restfulbooker.utils.ApiEndpoints;
-import com.restfulbooker.utils.RestAssuredHelper;
-import com.restfulbooker.utils.TestDataGenerator;
+import com.restfulbooker.utils.BookingFixturePool;
+import com.restfulbooker.utils.BookingFixturePool.Access;
 import io.qameta.allure.*;
 import io.restassured.response.Response;
 import org.testng.annotations.Test;
@@ -26,7 +26,7 @@ public class BookingTests extends BaseTest {
     @Description("Verify that all bookings can be retrieved")
     @Severity(SeverityLevel.CRITICAL)
     public void testGetAllBookings() {
-        Response response = RestAssuredHelper.getBaseRequestSpec()
+        Response response = api.getBaseRequestSpec()
                 .when()
                 .get(ApiEndpoints.BOOKING)
                 .then()
@@ -47,38 +47,35 @@ public class BookingTests extends BaseTest {
     @Description("Verify that a specific booking can be retrieved by ID")
     @Severity(SeverityLevel.CRITICAL)
     public void testGetBookingById() {
-        // First get all bookings to get a valid ID
-        Response allBookingsResponse = RestAssuredHelper.getBaseRequestSpec()
-                .when()
-                .get(ApiEndpoints.BOOKING);
-        
-        int bookingId = allBookingsResponse.jsonPath().getInt("[0].bookingid");
-        
-        // Get specific booking
-        Response response = RestAssuredHelper.getBaseRequestSpec()
-                .pathParam("id", bookingId)
-                .when()
-                .get(ApiEndpoints.BOOKING_BY_ID)
-                .then()
-                .statusCode(200)
-                .body("firstname", notNullValue())
-                .body("lastname", notNullValue())
-                .body("totalprice", notNullValue())
-                .body("depositpaid", notNullValue())
-                .body("bookingdates", notNullValue())
-                .body("bookingdates.checkin", notNullValue())
-                .body("bookingdates.checkout", notNullValue())
-                .extract()
-                .response();
-        
-        Booking booking = response.as(Booking.class);
-        assertNotNull(booking.getFirstName(), "First name should not be null");
-        assertNotNull(booking.getLastName(), "Last name should not be null");
-        assertNotNull(booking.getTotalPrice(), "Total price should not be null");
-        assertNotNull(booking.getDepositPaid(), "Deposit paid should not be null");
-        assertNotNull(booking.getBookingDates(), "Booking dates should not be null");
-        
-        logger.info("Successfully retrieved booking with ID: {}", bookingId);
+        try (BookingFixturePool.Lease lease = leaseBooking(Access.SHARED)) {
+            int bookingId = lease.getBookingId();
+            
+            // Get specific booking
+            Response response = api.getBaseRequestSpec()
+                    .pathParam("id", bookingId)
+                    .when()
+                    .get(ApiEndpoints.BOOKING_BY_ID)
+                    .then()
+                    .statusCode(200)
+                    .body("firstname", notNullValue())
+                    .body("lastname", notNullValue())
+                    .body("totalprice", notNullValue())
+                    .body("depositpaid", notNullValue())
+                    .body("bookingdates", notNullValue())
+                    .body("bookingdates.checkin", notNullValue())
+                    .body("bookingdates.checkout", notNullValue())
+                    .extract()
+                    .response();
+            
+            Booking booking = response.as(Booking.class);
+            assertNotNull(booking.getFirstName(), "First name should not be null");
+            assertNotNull(booking.getLastName(), "Last name should not be null");
+            assertNotNull(booking.getTotalPrice(), "Total price should not be null");
+            assertNotNull(booking.getDepositPaid(), "Deposit paid should not be null");
+            assertNotNull(booking.getBookingDates(), "Booking dates should not be null");
+            
+            logger.info("Successfully retrieved booking with ID: {}", bookingId);
+        }
     }
     
     @Test(groups = {"regression"}, priority = 3)
@@ -88,7 +85,7 @@ public class BookingTests extends BaseTest {
     public void testGetBookingByInvalidId() {
         int invalidId = 99999;
         
-        RestAssuredHelper.getBaseRequestSpec()
+        api.getBaseRequestSpec()
                 .pathParam("id", invalidId)
                 .when()
                 .get(ApiEndpoints.BOOKING_BY_ID)
@@ -103,25 +100,19 @@ public class BookingTests extends BaseTest {
     @Description("Verify bookings can be filtered by first name")
     @Severity(SeverityLevel.NORMAL)
     public void testGetBookingsByFirstName() {
-        // First create a booking to ensure we have data
-        Booking newBooking = TestDataGenerator.generateRandomBooking();
-        
-        Response createResponse = RestAssuredHelper.getBaseRequestSpec()
-                .body(newBooking)
-                .when()
-                .post(ApiEndpoints.BOOKING);
-        
-        if (createResponse.getStatusCode() == 200) {
-            // Search by firstname
-            RestAssuredHelper.getBaseRequestSpec()
-                    .queryParam(ApiEndpoints.FIRSTNAME_PARAM, newBooking.getFirstName())
+        // Search for a booking known to exist
+        try (BookingFixturePool.Lease lease = leaseBooking(Access.SHARED)) {
+            Booking existingBooking = lease.getBooking();
+            
+            api.getBaseRequestSpec()
+                    .queryParam(ApiEndpoints.FIRSTNAME_PARAM, existingBooking.getFirstName())
                     .when()
                     .get(ApiEndpoints.BOOKING)
                     .then()
                     .statusCode(200)
                     .body("$", hasSize(greaterThanOrEqualTo(0)));
             
-            logger.info("Successfully searched bookings by firstname: {}", newBooking.getFirstName());
+            logger.info("Successfully searched bookings by firstname: {}", existingBooking.getFirstName());
         }
     }
     
@@ -131,7 +122,7 @@ public class BookingTests extends BaseTest {
     @Severity(SeverityLevel.NORMAL)
     public void testGetBookingsByLastName() {
         // Search by a common lastname
-        RestAssuredHelper.getBaseRequestSpec()
+        api.getBaseRequestSpec()
                 .queryParam(ApiEndpoints.LASTNAME_PARAM, "Brown")
                 .when()
                 .get(ApiEndpoints.BOOKING)
@@ -149,7 +140,7 @@ public class BookingTests extends BaseTest {
     public void testGetBookingsByCheckinDate() {
         String checkinDate = "2018-01-01";
         
-        RestAssuredHelper.getBaseRequestSpec()
+        api.getBaseRequestSpec()
                 .queryParam(ApiEndpoints.CHECKIN_PARAM, checkinDate)
                 .when()
                 .get(ApiEndpoints.BOOKING)
@@ -167,7 +158,7 @@ public class BookingTests extends BaseTest {
     public void testGetBookingsByCheckoutDate() {
         String checkoutDate = "2019-01-01";
         
-        RestAssuredHelper.getBaseRequestSpec()
+        api.getBaseRequestSpec()
                 .queryParam(ApiEndpoints.CHECKOUT_PARAM, checkoutDate)
                 .when()
                 .get(ApiEndpoints.BOOKING)
@@ -0,0 +1,170 @@
+package com.restfulbooker.utils;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * {@link AdaptiveConcurrencyLimit} against a manual clock
+ */
+public class AdaptiveConcurrencyLimitTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private static AdaptiveConcurrencyLimit newLimit(int initial, int min, int max, AtomicLong clock) {
+        return new AdaptiveConcurrencyLimit(initial, min, max, 0.5, 2.0, clock::get);
+    }
+
+    @Test(groups = {"unit"})
+    public void testDropsInOneRoundTripDecreaseTheLimitOnce() {
+        AtomicLong clock = new AtomicLong();
+        AdaptiveConcurrencyLimit limit = newLimit(16, 1, 16, clock);
+        clock.addAndGet(MILLIS);
+        AdaptiveConcurrencyLimit.Permit first = limit.acquire();
+        AdaptiveConcurrencyLimit.Permit second = limit.acquire();
+        AdaptiveConcurrencyLimit.Permit third = limit.acquire();
+
+        clock.addAndGet(MILLIS);
+        first.onDropped();
+        second.onDropped();
+        third.onDropped();
+        assertEquals(limit.getLimit(), 8);
+
+        // A request sent after the decrease may decrease it again
+        clock.addAndGet(MILLIS);
+        AdaptiveConcurrencyLimit.Permit later = limit.acquire();
+        clock.addAndGet(MILLIS);
+        later.onDropped();
+        assertEquals(limit.getLimit(), 4);
+    }
+
+    @Test(groups = {"unit"})
+    public void testLimitGrowsAboutOnePerWindowWhileInUse() {
+        AtomicLong clock = new AtomicLong();
+        // Round trips lengthen while the window fills; do not let that count as congestion
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 1, 100, 0.5, 100.0, clock::get);
+        Deque<AdaptiveConcurrencyLimit.Permit> inFlight = new ArrayDeque<>();
+
+        for (int window = 0; window < 3; window++) {
+            int completions = limit.getLimit();
+            for (int i = 0; i < completions; i++) {
+                while (limit.getInFlight() < limit.getLimit()) {
+                    inFlight.addLast(limit.acquire());
+                }
+                clock.addAndGet(MILLIS);
+                inFlight.removeFirst().onSuccess();
+            }
+        }
+
+        // +1/limit per completion is slightly less than +1 per window as the limit grows
+        assertTrue(limit.getLimit() == 12 || limit.getLimit() == 13, "limit " + limit.getLimit());
+    }
+
+    @Test(groups = {"unit"})
+    public void testLimitDoesNotGrowWhileMostlyIdle() {
+        AtomicLong clock = new AtomicLong();
+        AdaptiveConcurrencyLimit limit = newLimit(10, 1, 100, clock);
+
+        for (int i = 0; i < 100; i++) {
+            AdaptiveConcurrencyLimit.Permit permit = limit.acquire();
+            clock.addAndGet(MILLIS);
+            permit.onSuccess();
+        }
+
+        assertEquals(limit.getLimit(), 10);
+    }
+
+    @Test(groups = {"unit"})
+    public void testRisingLatencyDecreasesTheLimit() {
+        AtomicLong clock = new AtomicLong();
+        AdaptiveConcurrencyLimit limit = newLimit(10, 1, 100, clock);
+        for (int i = 0; i < 20; i++) {
+            AdaptiveConcurrencyLimit.Permit permit = limit.acquire();
+            clock.addAndGet(MILLIS);
+            permit.onSuccess();
+        }
+        assertEquals(limit.getLimit(), 10);
+
+        for (int i = 0; i < 2; i++) {
+            AdaptiveConcurrencyLimit.Permit permit = limit.acquire();
+            clock.addAndGet(10 * MILLIS);
+            permit.onSuccess();
+        }
+
+        assertEquals(limit.getLimit(), 5);
+    }
+
+    @Test(groups = {"unit"})
+    public void testWaitersAreGrantedInArrivalOrder() {
+        AtomicLong clock = new AtomicLong();
+        AdaptiveConcurrencyLimit limit = newLimit(1, 1, 1, clock);
+        AdaptiveConcurrencyLimit.Permit held = limit.acquire();
+        CompletableFuture<AdaptiveConcurrencyLimit.Permit> first = limit.acquireAsync();
+        CompletableFuture<AdaptiveConcurrencyLimit.Permit> second = limit.acquireAsync();
+        assertFalse(first.isDone());
+
+        held.release();
+        assertTrue(first.isDone());
+        assertFalse(second.isDone());
+
+        first.join().release();
+        assertTrue(second.isDone());
+        assertEquals(limit.getInFlight(), 1);
+    }
+
+    @Test(groups = {"unit"})
+    public void testCancelledWaiterDoesNotKeepAPermit() {
+        AtomicLong clock = new AtomicLong();
+        AdaptiveConcurrencyLimit limit = newLimit(1, 1, 1, clock);
+        AdaptiveConcurrencyLimit.Permit held = limit.acquire();
+        CompletableFuture<AdaptiveConcurrencyLimit.Permit> cancelled = limit.acquireAsync();
+        cancelled.cancel(false);
+
+        held.release();
+
+        assertEquals(limit.getInFlight(), 0);
+        assertTrue(limit.acquireAsync().isDone());
+    }
+
+    @Test(groups = {"unit"})
+    public void testInterruptedAcquireDoesNotKeepAPermit() {
+        AtomicLong clock = new AtomicLong();
+        AdaptiveConcurrencyLimit limit = newLimit(1, 1, 1, clock);
+        AdaptiveConcurrencyLimit.Permit held = limit.acquire();
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(IllegalStateException.class, limit::acquire);
+        } finally {
+            assertTrue(Thread.interrupted());
+        }
+
+        held.release();
+        assertEquals(limit.getInFlight(), 0);
+        assertTrue(limit.acquireAsync().isDone());
+    }
+
+    @Test(groups = {"unit"})
+    public void testPermitCompletesOnlyOnce() {
+        AtomicLong clock = new AtomicLong();
+        AdaptiveConcurrencyLimit limit = newLimit(2, 1, 2, clock);
+        AdaptiveConcurrencyLimit.Permit permit = limit.acquire();
+        limit.acquire();
+
+        permit.onSuccess();
+        permit.onDropped();
+        permit.release();
+
+        assertEquals(limit.getInFlight(), 1);
+        assertEquals(limit.getLimit(), 2);
+    }
+}
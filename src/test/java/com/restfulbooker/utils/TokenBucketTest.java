@@ -0,0 +1,67 @@
+package com.restfulbooker.utils;
+
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+
+/**
+ * {@link TokenBucket} against a manual clock
+ */
+public class TokenBucketTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+    // reserve() rounds wait times up from a floating point token count
+    private static final double WAIT_TOLERANCE = 1000;
+
+    @Test(groups = {"unit"})
+    public void testBurstIsFreeThenTokensAreSpacedByTheRate() {
+        AtomicLong clock = new AtomicLong();
+        TokenBucket bucket = new TokenBucket(10, 2, clock::get);
+
+        assertEquals(bucket.reserve(), 0);
+        assertEquals(bucket.reserve(), 0);
+        assertEquals(bucket.reserve(), 100 * MILLIS, WAIT_TOLERANCE);
+        assertEquals(bucket.reserve(), 200 * MILLIS, WAIT_TOLERANCE);
+    }
+
+    @Test(groups = {"unit"})
+    public void testDebtIsPaidOffByElapsedTime() {
+        AtomicLong clock = new AtomicLong();
+        TokenBucket bucket = new TokenBucket(10, 1, clock::get);
+        bucket.reserve();
+        bucket.reserve();
+        bucket.reserve();
+
+        clock.addAndGet(50 * MILLIS);
+
+        // Two tokens of debt minus half a token refilled, plus the one taken now
+        assertEquals(bucket.reserve(), 250 * MILLIS, WAIT_TOLERANCE);
+    }
+
+    @Test(groups = {"unit"})
+    public void testIdleTimeRefillsNoMoreThanTheBurst() {
+        AtomicLong clock = new AtomicLong();
+        TokenBucket bucket = new TokenBucket(10, 3, clock::get);
+        bucket.reserve();
+        bucket.reserve();
+        bucket.reserve();
+
+        clock.addAndGet(TimeUnit.HOURS.toNanos(1));
+
+        assertEquals(bucket.reserve(), 0);
+        assertEquals(bucket.reserve(), 0);
+        assertEquals(bucket.reserve(), 0);
+        assertEquals(bucket.reserve(), 100 * MILLIS, WAIT_TOLERANCE);
+    }
+
+    @Test(groups = {"unit"})
+    public void testRejectsNonPositiveRateOrBurst() {
+        AtomicLong clock = new AtomicLong();
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0, 1, clock::get));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(1, 0, clock::get));
+    }
+}